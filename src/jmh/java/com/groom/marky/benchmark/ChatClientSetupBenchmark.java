@@ -0,0 +1,150 @@
+package com.groom.marky.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
+import org.springframework.ai.chat.client.advisor.api.Advisor;
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.memory.MessageWindowChatMemory;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.support.ToolCallbacks;
+import org.springframework.ai.tool.ToolCallback;
+
+import com.groom.marky.common.constant.ContextKeys;
+import com.groom.marky.service.ChatClientFactory;
+import com.groom.marky.service.LocalIntentClassifier;
+import com.groom.marky.service.advisor.ActivityDetailAdvisor;
+import com.groom.marky.service.advisor.LocationResolverAdvisor;
+import com.groom.marky.service.advisor.MultiPurposeActionAdvisor;
+import com.groom.marky.service.advisor.SemanticCacheAdvisor;
+import com.groom.marky.service.advisor.SystemRoleAdvisor;
+import com.groom.marky.service.advisor.UserIntentAdvisor;
+import com.groom.marky.service.tool.ActivitySearchTool;
+import com.groom.marky.service.tool.CafeSearchTool;
+import com.groom.marky.service.tool.DirectToolDispatcher;
+import com.groom.marky.service.tool.ParkingLotSearchTool;
+import com.groom.marky.service.tool.RestaurantSearchTool;
+import com.groom.marky.service.tool.SubwayRouteSearchTool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 요청 하나를 모델에 보내기 직전까지의 준비 비용 : 요청마다 ChatClient 구성 vs 시작 시 한 번 구성한 파이프라인 공유.
+ * 모델은 호출하지 않는다. 할당량은 -prof gc 로 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatClientSetupBenchmark {
+
+	private static final String QUESTION = "홍대 조용한 카페 추천해줘";
+
+	private ChatModel model;
+	private ChatMemory chatMemory;
+	private List<Object> tools;
+	private List<Advisor> advisors;
+	private ChatClientFactory chatClientFactory;
+	private Map<String, Object> context;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// 툴 / 어드바이저는 구성만 하고 실행하지 않으므로 외부 의존성은 비워 둠
+		model = new ChatModel() {
+			@Override
+			public ChatResponse call(Prompt prompt) {
+				throw new UnsupportedOperationException();
+			}
+		};
+		chatMemory = MessageWindowChatMemory.builder().maxMessages(10).build();
+
+		LocalIntentClassifier classifier = new LocalIntentClassifier(new SimpleMeterRegistry());
+		SystemRoleAdvisor systemRoleAdvisor = new SystemRoleAdvisor();
+		UserIntentAdvisor userIntentAdvisor = new UserIntentAdvisor(model, Fixtures.OBJECT_MAPPER, classifier);
+		LocationResolverAdvisor locationResolverAdvisor =
+			new LocationResolverAdvisor(null, model, Fixtures.OBJECT_MAPPER, null);
+		ActivityDetailAdvisor activityDetailAdvisor = new ActivityDetailAdvisor(model, Fixtures.OBJECT_MAPPER, classifier);
+		SemanticCacheAdvisor semanticCacheAdvisor = new SemanticCacheAdvisor(null);
+
+		CafeSearchTool cafeSearchTool = new CafeSearchTool(null, null, null, null);
+		ParkingLotSearchTool parkingLotSearchTool = new ParkingLotSearchTool(null, null, null);
+		ActivitySearchTool activitySearchTool = new ActivitySearchTool(null, null, null, null, null);
+		SubwayRouteSearchTool subwayRouteSearchTool = new SubwayRouteSearchTool(null);
+		RestaurantSearchTool restaurantSearchTool = new RestaurantSearchTool(null, null, null, null, null);
+
+		MultiPurposeActionAdvisor multiPurposeActionAdvisor = new MultiPurposeActionAdvisor(new DirectToolDispatcher(
+			cafeSearchTool, restaurantSearchTool, parkingLotSearchTool, activitySearchTool, subwayRouteSearchTool,
+			new SimpleMeterRegistry()));
+
+		tools = List.of(cafeSearchTool, parkingLotSearchTool, activitySearchTool, subwayRouteSearchTool,
+			restaurantSearchTool);
+		advisors = List.of(systemRoleAdvisor, userIntentAdvisor, locationResolverAdvisor, semanticCacheAdvisor,
+			multiPurposeActionAdvisor, activityDetailAdvisor);
+
+		chatClientFactory = new ChatClientFactory(model, chatMemory, systemRoleAdvisor, userIntentAdvisor,
+			locationResolverAdvisor, activityDetailAdvisor, semanticCacheAdvisor, multiPurposeActionAdvisor,
+			parkingLotSearchTool, subwayRouteSearchTool, activitySearchTool, restaurantSearchTool, cafeSearchTool);
+
+		context = Map.of(ContextKeys.PREPROCESSED, true, ContextKeys.INTENT, "카페", ContextKeys.LOCATION, "홍대");
+	}
+
+	// 이전 ChatClientFactory.create : 요청마다 @Tool 리플렉션, 옵션, 어드바이저 목록, ChatClient 를 새로 만듦
+	@Benchmark
+	public ChatClient.ChatClientRequestSpec perRequest() {
+		String conversationId = UUID.randomUUID().toString();
+
+		ToolCallingChatOptions chatOptions = ToolCallingChatOptions.builder()
+			.toolCallbacks(ToolCallbacks.from(tools.toArray()))
+			.internalToolExecutionEnabled(true)
+			.build();
+
+		List<Advisor> chain = new ArrayList<>(advisors.size() + 1);
+		chain.add(MessageChatMemoryAdvisor.builder(chatMemory)
+			.conversationId(conversationId)
+			.build());
+		chain.addAll(advisors);
+
+		ChatClient client = ChatClient.builder(model)
+			.defaultOptions(chatOptions)
+			.defaultAdvisors(chain)
+			.build();
+
+		return client.prompt()
+			.user(QUESTION)
+			.advisors(advisor -> advisor.params(context));
+	}
+
+	@Benchmark
+	public ChatClient.ChatClientRequestSpec prebuilt() {
+		return chatClientFactory.prompt(UUID.randomUUID().toString())
+			.user(QUESTION)
+			.advisors(advisor -> advisor.params(context));
+	}
+
+	// perRequest 비용 중 @Tool 리플렉션 비중 확인용
+	@Benchmark
+	public ToolCallback[] toolCallbacks() {
+		return ToolCallbacks.from(tools.toArray());
+	}
+}
@@ -0,0 +1,91 @@
+package com.groom.marky.benchmark;
+
+import static com.groom.marky.domain.response.GooglePlacesApiResponse.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.groom.marky.benchmark.legacy.LegacyActivityDescriptionBuilder;
+import com.groom.marky.benchmark.legacy.LegacyCafeDescriptionBuilder;
+import com.groom.marky.benchmark.legacy.LegacyParkingLotDescriptionBuilder;
+import com.groom.marky.benchmark.legacy.LegacyRestaurantDescriptionBuilder;
+import com.groom.marky.domain.response.ActivityDescriptionBuilder;
+import com.groom.marky.domain.response.CafeDescriptionBuilder;
+import com.groom.marky.domain.response.DescriptionBuilder;
+import com.groom.marky.domain.response.GooglePlacesApiResponse;
+import com.groom.marky.domain.response.ParkingLotDescriptionBuilder;
+import com.groom.marky.domain.response.RestaurantDescriptionBuilder;
+
+/**
+ * 장소 설명 생성 : 이전 StringBuilder + replaceAll 구현 vs DescriptionTemplate.
+ * 할당량은 -prof gc 로 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DescriptionBuilderBenchmark {
+
+	@Param({"restaurant", "cafe", "parking", "activity"})
+	private String type;
+
+	private List<Place> places;
+	private DescriptionBuilder legacy;
+	private DescriptionBuilder template;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		places = Fixtures.read("google-places-search-text.json", GooglePlacesApiResponse.class).places();
+
+		switch (type) {
+			case "restaurant" -> {
+				legacy = new LegacyRestaurantDescriptionBuilder();
+				template = new RestaurantDescriptionBuilder();
+			}
+			case "cafe" -> {
+				legacy = new LegacyCafeDescriptionBuilder();
+				template = new CafeDescriptionBuilder();
+			}
+			case "parking" -> {
+				legacy = new LegacyParkingLotDescriptionBuilder();
+				template = new ParkingLotDescriptionBuilder();
+			}
+			case "activity" -> {
+				legacy = new LegacyActivityDescriptionBuilder();
+				template = new ActivityDescriptionBuilder();
+			}
+			default -> throw new IllegalArgumentException(type);
+		}
+	}
+
+	@Benchmark
+	public void legacy(Blackhole blackhole) {
+		for (Place place : places) {
+			blackhole.consume(legacy.buildDescription(place));
+		}
+	}
+
+	@Benchmark
+	public void template(Blackhole blackhole) {
+		for (Place place : places) {
+			blackhole.consume(template.buildDescription(place));
+		}
+	}
+}
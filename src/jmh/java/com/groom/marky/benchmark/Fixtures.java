@@ -0,0 +1,33 @@
+package com.groom.marky.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// src/jmh/resources/fixtures 의 API 응답 샘플
+final class Fixtures {
+
+	// RestTemplate 의 Jackson 컨버터처럼 모르는 필드는 무시
+	static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private Fixtures() {
+	}
+
+	static byte[] bytes(String name) throws IOException {
+		try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+			if (in == null) {
+				throw new IOException("fixture 없음 : " + name);
+			}
+			return in.readAllBytes();
+		}
+	}
+
+	static <T> T read(String name, Class<T> type) throws IOException {
+		return OBJECT_MAPPER.readValue(bytes(name), type);
+	}
+}
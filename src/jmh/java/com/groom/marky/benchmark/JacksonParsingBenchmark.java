@@ -0,0 +1,71 @@
+package com.groom.marky.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.marky.domain.response.GooglePlacesApiResponse;
+import com.groom.marky.domain.response.SubwayRouteResponse;
+import com.groom.marky.domain.response.TmapRouteResponse;
+
+/**
+ * 외부 API 응답 역직렬화.
+ * tmapRoute 는 TmapTransitClient 와 같이 트리로 읽은 뒤 첫 경로만 변환하고,
+ * subwayRouteNewMapper 는 SubwayRouteService 처럼 호출마다 ObjectMapper 를 새로 만드는 경우다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonParsingBenchmark {
+
+	private final ObjectMapper objectMapper = Fixtures.OBJECT_MAPPER;
+
+	private byte[] googlePlaces;
+	private byte[] tmapRoute;
+	private byte[] subwayRoute;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		googlePlaces = Fixtures.bytes("google-places-search-text.json");
+		tmapRoute = Fixtures.bytes("tmap-route.json");
+		subwayRoute = Fixtures.bytes("subway-route.json");
+	}
+
+	@Benchmark
+	public GooglePlacesApiResponse googlePlaces() throws IOException {
+		return objectMapper.readValue(googlePlaces, GooglePlacesApiResponse.class);
+	}
+
+	@Benchmark
+	public TmapRouteResponse tmapRoute() throws IOException {
+		JsonNode root = objectMapper.readTree(tmapRoute);
+		JsonNode itineraries = root.path("metaData").path("plan").path("itineraries");
+		return objectMapper.treeToValue(itineraries.get(0), TmapRouteResponse.class);
+	}
+
+	@Benchmark
+	public SubwayRouteResponse subwayRoute() throws IOException {
+		return objectMapper.readValue(subwayRoute, SubwayRouteResponse.class);
+	}
+
+	@Benchmark
+	public SubwayRouteResponse subwayRouteNewMapper() throws IOException {
+		return new ObjectMapper().readValue(subwayRoute, SubwayRouteResponse.class);
+	}
+}
@@ -0,0 +1,65 @@
+package com.groom.marky.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import com.groom.marky.common.security.jwt.JwtProvider;
+import com.groom.marky.domain.Role;
+import com.groom.marky.domain.request.CreateToken;
+import com.groom.marky.domain.response.AccessTokenInfo;
+
+// 요청마다 필터에서 수행하는 액세스 토큰 검증 / 파싱
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+	private JwtProvider jwtProvider;
+	private String accessToken;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		jwtProvider = new JwtProvider(
+			"benchmark-access-secret-key-0123456789abcdef",
+			"benchmark-refresh-secret-key-0123456789abcdef",
+			1000L * 60 * 60,
+			1000L * 60 * 60 * 24);
+
+		accessToken = jwtProvider.generateAccessToken(CreateToken.builder()
+			.userEmail("benchmark@marky.com")
+			.role(Role.ROLE_USER)
+			.ip("127.0.0.1")
+			.userAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36")
+			.build());
+	}
+
+	@Benchmark
+	public boolean validateAccessToken() {
+		return jwtProvider.validateAccessToken(accessToken);
+	}
+
+	@Benchmark
+	public Authentication getAuthentication() {
+		return jwtProvider.getAuthentication(accessToken);
+	}
+
+	@Benchmark
+	public AccessTokenInfo getAccessTokenInfo() {
+		return jwtProvider.getAccessTokenInfo(accessToken);
+	}
+}
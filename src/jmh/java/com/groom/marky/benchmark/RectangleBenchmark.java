@@ -0,0 +1,42 @@
+package com.groom.marky.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.groom.marky.domain.request.Rectangle;
+
+// 격자 생성 / 4분할 (수집 시 격자 탐색의 기본 연산)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RectangleBenchmark {
+
+	@Param({"4", "16", "64"})
+	private int gridSize;
+
+	private final Rectangle seoul = Rectangle.rectOfSeoul();
+
+	@Benchmark
+	public List<Rectangle> generateGrid() {
+		return seoul.generateGrid(gridSize, gridSize);
+	}
+
+	@Benchmark
+	public List<Rectangle> splitGrid() {
+		return seoul.splitGrid();
+	}
+}
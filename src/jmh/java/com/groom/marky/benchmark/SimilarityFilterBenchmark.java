@@ -0,0 +1,82 @@
+package com.groom.marky.benchmark;
+
+import static com.groom.marky.common.constant.MetadataKeys.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+import org.springframework.ai.vectorstore.pgvector.PgVectorFilterExpressionConverter;
+
+import com.pgvector.PGvector;
+
+/**
+ * SimilaritySearchTool 의 후보 ID 필터 구성 비용.
+ * orChain : 이전 방식 (ID 마다 eq 를 or 로 이어 붙인 뒤 PgVectorStore 가 jsonpath 문자열로 변환)
+ * inExpression : 같은 필터를 IN 한 번으로 구성
+ * arrayParameter : 현재 방식 (PlaceVectorRepository 에 배열 파라미터 하나로 전달)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// or 체인은 ID 수만큼 중첩되므로 변환 시 재귀가 깊다
+@Fork(value = 1, jvmArgsAppend = "-Xss8m")
+public class SimilarityFilterBenchmark {
+
+	@Param({"10", "100", "1000", "5000"})
+	private int idCount;
+
+	private List<String> ids;
+	private float[] queryEmbedding;
+	private final PgVectorFilterExpressionConverter converter = new PgVectorFilterExpressionConverter();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ids = new ArrayList<>(idCount);
+		for (int i = 0; i < idCount; i++) {
+			ids.add("ChIJ" + Integer.toHexString(0x10000000 + i * 7919) + "x-K8yfDQxNXRaEo");
+		}
+		queryEmbedding = new float[768];
+		for (int i = 0; i < queryEmbedding.length; i++) {
+			queryEmbedding[i] = (float)Math.sin(i);
+		}
+	}
+
+	@Benchmark
+	public String orChain() {
+		FilterExpressionBuilder b = new FilterExpressionBuilder();
+		FilterExpressionBuilder.Op op = null;
+		for (String id : ids) {
+			op = op == null ? b.eq(GOOGLEPLACEID, id) : b.or(op, b.eq(GOOGLEPLACEID, id));
+		}
+		return converter.convertExpression(op.build());
+	}
+
+	@Benchmark
+	public String inExpression() {
+		Filter.Expression expression = new FilterExpressionBuilder().in(GOOGLEPLACEID, new ArrayList<Object>(ids))
+			.build();
+		return converter.convertExpression(expression);
+	}
+
+	@Benchmark
+	public Object[] arrayParameter() {
+		return new Object[] {new PGvector(queryEmbedding), ids.toArray(new String[0])};
+	}
+}
@@ -0,0 +1,63 @@
+package com.groom.marky.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.web.client.HttpClientErrorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 429 Too Many Requests 응답에 대해 지수 백오프 + 지터로 재시도.
+ * Retry-After 헤더가 있으면 그 값을 우선 사용한다.
+ */
+@Slf4j
+public final class BackoffRetry {
+
+	private static final int MAX_RETRIES = 5;
+	private static final long BASE_DELAY_MILLIS = 1000L;
+	private static final long MAX_DELAY_MILLIS = 60000L;
+
+	private BackoffRetry() {
+	}
+
+	public static <T> T onTooManyRequests(String name, Supplier<T> call) {
+		int attempt = 0;
+		while (true) {
+			try {
+				return call.get();
+			} catch (HttpClientErrorException.TooManyRequests e) {
+				if (++attempt > MAX_RETRIES) {
+					throw e;
+				}
+
+				long delay = retryAfterMillis(e);
+				if (delay < 0) {
+					// full jitter : 0 ~ min(최대 대기, 기본 대기 * 2^attempt)
+					long ceiling = Math.min(MAX_DELAY_MILLIS, BASE_DELAY_MILLIS << attempt);
+					delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+				}
+				log.warn("[{}] 429 Too Many Requests 발생 - {} ms 후 {}번째 재시도", name, delay, attempt);
+
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("재시도 대기 중 인터럽트 발생", ie);
+				}
+			}
+		}
+	}
+
+	private static long retryAfterMillis(HttpClientErrorException e) {
+		if (e.getResponseHeaders() == null) {
+			return -1;
+		}
+		String retryAfter = e.getResponseHeaders().getFirst("Retry-After");
+		try {
+			return retryAfter == null ? -1 : Math.min(MAX_DELAY_MILLIS, Long.parseLong(retryAfter.trim()) * 1000);
+		} catch (NumberFormatException nfe) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package com.groom.marky.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 임베딩 모델 입력 한도를 넘는 장소 설명을 토큰 수 기준으로 나눈다.
+ * 설명은 "\n\n[섹션]" 단위로 나누고, 한 섹션이 한도를 넘으면 ([리뷰] 등) 줄 단위로 나눈다.
+ * 두 번째 청크부터는 첫 문단(장소 이름, 주소, 평점)과 섹션 제목을 다시 붙여 청크만으로도 어느 장소인지 알 수 있게 한다.
+ */
+public final class DescriptionChunker {
+
+	private static final String SECTION_DELIMITER = "\n\n";
+
+	private DescriptionChunker() {
+	}
+
+	/**
+	 * @param maxTokens 청크 하나의 최대 예상 토큰 수
+	 * @return 한도 이내면 원문 하나, 넘으면 순서대로 나눈 청크
+	 */
+	public static List<String> chunk(String description, int maxTokens) {
+		if (description == null || estimateTokens(description) <= maxTokens) {
+			return description == null ? List.of() : List.of(description);
+		}
+
+		String[] sections = description.split(SECTION_DELIMITER);
+		String intro = sections[0];
+		// 문맥용 첫 문단이 한도의 절반을 넘으면 붙이지 않음
+		String context = estimateTokens(intro) * 2 <= maxTokens ? intro + SECTION_DELIMITER : "";
+
+		List<String> chunks = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		if (estimateTokens(intro) <= maxTokens) {
+			current.append(intro);
+		} else {
+			chunks.addAll(splitLine(intro, maxTokens));
+		}
+		for (int i = 1; i < sections.length; i++) {
+			String section = sections[i];
+			if (estimateTokens(current) + estimateTokens(section) <= maxTokens) {
+				current.append(SECTION_DELIMITER).append(section);
+				continue;
+			}
+
+			flush(chunks, current);
+			current.append(context);
+			if (estimateTokens(context) + estimateTokens(section) <= maxTokens) {
+				current.append(section);
+				continue;
+			}
+
+			// 섹션 하나가 한도를 넘으면 줄 단위로 나누고, 청크마다 섹션 제목을 반복
+			String[] lines = section.split("\n");
+			String heading = lines[0].startsWith("[") ? lines[0] + "\n" : "";
+			String prefix = context + heading;
+			current.append(heading);
+			for (int j = heading.isEmpty() ? 0 : 1; j < lines.length; j++) {
+				String line = lines[j];
+				if (estimateTokens(current) + estimateTokens(line) > maxTokens && current.length() > prefix.length()) {
+					flush(chunks, current);
+					current.append(prefix);
+				}
+				// 한 줄이 그 자체로 한도를 넘으면 글자 단위로 자름
+				for (String piece : splitLine(line, maxTokens - estimateTokens(prefix))) {
+					if (current.length() > prefix.length() && estimateTokens(current) + estimateTokens(piece) > maxTokens) {
+						flush(chunks, current);
+						current.append(prefix);
+					}
+					current.append(piece).append('\n');
+				}
+			}
+		}
+		flush(chunks, current);
+		return chunks;
+	}
+
+	/**
+	 * 토큰 수 추정. 한글 등 비 ASCII 문자는 글자당 1, 영문 / 숫자는 4글자당 1, 공백은 세지 않는다.
+	 * 실제 토크나이저보다 조금 크게 잡아 한도를 넘지 않도록 한다.
+	 */
+	public static int estimateTokens(CharSequence text) {
+		int tokens = 0;
+		int alphanumeric = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < 128 && Character.isLetterOrDigit(c)) {
+				alphanumeric++;
+			} else if (!Character.isWhitespace(c)) {
+				tokens++;
+			}
+		}
+		return tokens + (alphanumeric + 3) / 4;
+	}
+
+	private static List<String> splitLine(String line, int maxTokens) {
+		if (estimateTokens(line) <= maxTokens) {
+			return List.of(line);
+		}
+
+		List<String> pieces = new ArrayList<>();
+		int start = 0;
+		int tokens = 0;
+		for (int i = 0; i < line.length(); i++) {
+			// 영문은 4글자당 1토큰으로 추정하므로 글자 수로 보수적으로 끊음
+			if (!Character.isWhitespace(line.charAt(i))) {
+				tokens++;
+			}
+			// 서로게이트 쌍(이모지 등) 중간에서는 자르지 않음
+			if (tokens >= Math.max(1, maxTokens) && !Character.isHighSurrogate(line.charAt(i))) {
+				pieces.add(line.substring(start, i + 1));
+				start = i + 1;
+				tokens = 0;
+			}
+		}
+		if (start < line.length()) {
+			pieces.add(line.substring(start));
+		}
+		return pieces;
+	}
+
+	private static void flush(List<String> chunks, StringBuilder current) {
+		String chunk = current.toString().trim();
+		if (!chunk.isEmpty()) {
+			chunks.add(chunk);
+		}
+		current.setLength(0);
+	}
+}
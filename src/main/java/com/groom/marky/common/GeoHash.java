@@ -0,0 +1,60 @@
+package com.groom.marky.common;
+
+/**
+ * 위경도 → geohash 문자열.
+ * 같은 격자 안의 좌표는 같은 문자열이 되므로, 가까운 위치의 요청을 하나의 캐시 키로 묶을 때 사용한다.
+ * 자릿수별 격자 크기(적도 기준) : 6 → 약 1.2km x 0.6km, 7 → 약 153m x 153m
+ */
+public final class GeoHash {
+
+	private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+	private GeoHash() {
+	}
+
+	public static String encode(double lat, double lon, int precision) {
+		if (precision < 1 || precision > 12) {
+			throw new IllegalArgumentException("precision 은 1 ~ 12 사이여야 합니다. precision : " + precision);
+		}
+
+		double minLat = -90, maxLat = 90;
+		double minLon = -180, maxLon = 180;
+
+		char[] hash = new char[precision];
+		boolean even = true;
+		int bit = 0;
+		int ch = 0;
+		int length = 0;
+
+		// 경도, 위도를 번갈아 이분하며 5비트마다 한 글자
+		while (length < precision) {
+			if (even) {
+				double mid = (minLon + maxLon) / 2;
+				if (lon >= mid) {
+					ch = (ch << 1) | 1;
+					minLon = mid;
+				} else {
+					ch <<= 1;
+					maxLon = mid;
+				}
+			} else {
+				double mid = (minLat + maxLat) / 2;
+				if (lat >= mid) {
+					ch = (ch << 1) | 1;
+					minLat = mid;
+				} else {
+					ch <<= 1;
+					maxLat = mid;
+				}
+			}
+			even = !even;
+
+			if (++bit == 5) {
+				hash[length++] = BASE32[ch];
+				bit = 0;
+				ch = 0;
+			}
+		}
+		return new String(hash);
+	}
+}
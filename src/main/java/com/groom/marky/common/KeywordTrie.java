@@ -0,0 +1,65 @@
+package com.groom.marky.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키워드 사전을 담는 트라이.
+ * 텍스트를 앞에서부터 훑으며 각 위치에서 가장 긴 키워드를 겹치지 않게 찾는다. (leftmost-longest)
+ * 예: "보드게임카페" 는 "카페" 가 아니라 "보드게임카페" 로 매칭된다.
+ */
+public class KeywordTrie<V> {
+
+	private final Node<V> root = new Node<>();
+
+	public void add(String keyword, V value) {
+		Node<V> node = root;
+		for (int i = 0; i < keyword.length(); i++) {
+			node = node.children.computeIfAbsent(keyword.charAt(i), c -> new Node<>());
+		}
+		node.keyword = keyword;
+		node.value = value;
+	}
+
+	public List<Match<V>> findAll(String text) {
+		List<Match<V>> matches = new ArrayList<>();
+
+		int i = 0;
+		while (i < text.length()) {
+			Node<V> node = root;
+			Node<V> longest = null;
+			int longestEnd = i;
+
+			for (int j = i; j < text.length(); j++) {
+				node = node.children.get(text.charAt(j));
+				if (node == null) {
+					break;
+				}
+				if (node.keyword != null) {
+					longest = node;
+					longestEnd = j + 1;
+				}
+			}
+
+			if (longest == null) {
+				i++;
+				continue;
+			}
+
+			matches.add(new Match<>(longest.keyword, longest.value, i, longestEnd));
+			i = longestEnd;
+		}
+		return matches;
+	}
+
+	public record Match<V>(String keyword, V value, int start, int end) {
+	}
+
+	private static class Node<V> {
+		private final Map<Character, Node<V>> children = new HashMap<>();
+		private String keyword;
+		private V value;
+	}
+}
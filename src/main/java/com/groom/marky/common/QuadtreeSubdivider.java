@@ -0,0 +1,144 @@
+package com.groom.marky.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+
+import com.groom.marky.domain.request.Rectangle;
+
+/**
+ * 격자 4분할 탐색.
+ * 격자 안의 장소 수가 maxCount 를 넘으면 4분할해 다시 세고, 0 이면 버린다.
+ * 서로 다른 사분면은 가상 스레드에서 동시에 탐색하되, 결과는 (입력 순서 → 사분면 순서) 깊이 우선 순서로 합쳐
+ * 실행할 때마다 같은 격자 목록을 같은 순서로 반환한다.
+ * 이전 탐색 결과(모든 노드의 장소 수)를 넘기면, 장소 수가 그대로인 노드의 하위 트리는 다시 조회하지 않고 재사용한다.
+ */
+public final class QuadtreeSubdivider {
+
+	public record Leaf(Rectangle rect, int count) {
+	}
+
+	/**
+	 * @param leaves 분할이 끝난 격자 (결정적 순서)
+	 * @param nodes  탐색한 모든 노드(중간 노드 포함)의 장소 수, 다음 refresh 의 입력
+	 * @param calls  이번 탐색에서 실제로 호출한 counter 횟수
+	 */
+	public record Tree(List<Leaf> leaves, Map<Rectangle, Integer> nodes, int calls) {
+	}
+
+	private final ToIntFunction<Rectangle> counter;
+	private final int maxCount;
+	private final Semaphore permits;
+	private final ExecutorService executor;
+	private final Map<Rectangle, Integer> previous;
+	private final Map<Rectangle, Integer> nodes = new ConcurrentHashMap<>();
+	private final AtomicInteger calls = new AtomicInteger();
+	private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+	private QuadtreeSubdivider(ToIntFunction<Rectangle> counter, int maxCount, int concurrency,
+		ExecutorService executor, Map<Rectangle, Integer> previous) {
+		this.counter = counter;
+		this.maxCount = maxCount;
+		this.permits = new Semaphore(concurrency);
+		this.executor = executor;
+		this.previous = previous;
+	}
+
+	/**
+	 * @param counter     격자 → 장소 수 (외부 API 호출, 속도 제한은 호출하는 쪽에서 처리)
+	 * @param maxCount    분할하지 않고 남길 최대 장소 수
+	 * @param concurrency 동시에 실행할 counter 호출 수
+	 */
+	public static List<Leaf> subdivide(List<Rectangle> roots, ToIntFunction<Rectangle> counter, int maxCount,
+		int concurrency) {
+		return refresh(roots, counter, maxCount, concurrency, Map.of()).leaves();
+	}
+
+	/**
+	 * 이전 탐색 결과를 기준으로 다시 탐색한다. 각 루트는 항상 다시 세고,
+	 * 분할됐던 노드의 장소 수가 이전과 같으면 하위 트리는 이전 결과를 그대로 사용한다.
+	 * (같은 격자 안에서 개수만 맞고 위치가 바뀐 경우는 잡지 못하므로, 주기적으로 전체 탐색이 필요하다)
+	 *
+	 * @param previous 이전 {@link Tree#nodes()}, 비어 있으면 전체 탐색
+	 */
+	public static Tree refresh(List<Rectangle> roots, ToIntFunction<Rectangle> counter, int maxCount,
+		int concurrency, Map<Rectangle, Integer> previous) {
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			QuadtreeSubdivider subdivider = new QuadtreeSubdivider(counter, maxCount, concurrency, executor, previous);
+
+			List<CompletableFuture<List<Leaf>>> futures = roots.stream().map(subdivider::explore).toList();
+			List<Leaf> leaves = new ArrayList<>();
+			for (CompletableFuture<List<Leaf>> future : futures) {
+				leaves.addAll(subdivider.join(future));
+			}
+			return new Tree(leaves, Map.copyOf(subdivider.nodes), subdivider.calls.get());
+		}
+	}
+
+	private CompletableFuture<List<Leaf>> explore(Rectangle rect) {
+		return CompletableFuture.supplyAsync(() -> count(rect), executor)
+			.thenCompose(count -> expand(rect, count, !Integer.valueOf(count).equals(previous.get(rect))));
+	}
+
+	// changed 가 false 면 하위 노드는 조회하지 않고 이전 결과를 사용
+	private CompletableFuture<List<Leaf>> expand(Rectangle rect, int count, boolean changed) {
+		nodes.put(rect, count);
+		if (count == 0) {
+			return CompletableFuture.completedFuture(List.of());
+		}
+		if (count <= maxCount) {
+			return CompletableFuture.completedFuture(List.of(new Leaf(rect, count)));
+		}
+
+		List<CompletableFuture<List<Leaf>>> children = rect.splitGrid().stream()
+			.map(child -> {
+				Integer previousCount = previous.get(child);
+				// 이전 결과에 없는 하위 노드는 새로 조회
+				return changed || previousCount == null ? explore(child) : expand(child, previousCount, false);
+			})
+			.toList();
+		return CompletableFuture.allOf(children.toArray(new CompletableFuture[0]))
+			.thenApply(ignored -> children.stream()
+				.flatMap(child -> child.join().stream())
+				.toList());
+	}
+
+	private int count(Rectangle rect) {
+		// 한 격자라도 실패하면 나머지 탐색은 더 이상 API 를 호출하지 않고 중단
+		if (failure.get() != null) {
+			throw new CancellationException();
+		}
+
+		permits.acquireUninterruptibly();
+		try {
+			calls.incrementAndGet();
+			return counter.applyAsInt(rect);
+		} catch (RuntimeException e) {
+			failure.compareAndSet(null, e);
+			throw e;
+		} finally {
+			permits.release();
+		}
+	}
+
+	// 중단으로 실패한 격자가 아니라 처음 실패한 원인을 그대로 던짐
+	private List<Leaf> join(CompletableFuture<List<Leaf>> future) {
+		try {
+			return future.join();
+		} catch (CompletionException | CancellationException e) {
+			RuntimeException cause = failure.get();
+			throw cause != null ? cause : e;
+		}
+	}
+}
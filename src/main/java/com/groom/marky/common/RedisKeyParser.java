@@ -1,12 +1,17 @@
 package com.groom.marky.common;
 
 import com.groom.marky.common.constant.GooglePlaceType;
+import com.groom.marky.common.constant.KakaoMapCategoryGroupCode;
 
 public class RedisKeyParser {
 
 	private static final String PLACES = "places";
 	private static final String REFRESH_TOKEN = "refresh";
 	private static final String BLACKLIST = "blacklist";
+	private static final String CACHE = "cache";
+	private static final String JOB = "job";
+	private static final String GRID = "grid";
+	private static final String TOOL_RESULT = "tool-result";
 
 	public static String getPlaceKey(GooglePlaceType type) {
 		return PLACES + ":" + type.getGoogleType();
@@ -19,4 +24,21 @@ public class RedisKeyParser {
 	public static String getBlacklistKey(String accessToken) {
 		return BLACKLIST + ":" + accessToken;
 	}
+
+	public static String getCacheKey(String cacheName, String key) {
+		return CACHE + ":" + cacheName + ":" + key;
+	}
+
+	// 장소 유형별 툴 결과 캐시 세대. 적재 시 증가시켜 이전 세대의 캐시를 무효화
+	public static String getToolResultGenerationKey(GooglePlaceType type) {
+		return CACHE + ":" + TOOL_RESULT + ":" + type.getGoogleType() + ":generation";
+	}
+
+	public static String getJobKey(String jobId, String part) {
+		return JOB + ":" + jobId + ":" + part;
+	}
+
+	public static String getGridKey(KakaoMapCategoryGroupCode code, String part) {
+		return GRID + ":" + code.name() + ":" + part;
+	}
 }
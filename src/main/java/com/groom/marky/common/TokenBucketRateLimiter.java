@@ -0,0 +1,90 @@
+package com.groom.marky.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 외부 API 호출 속도 제한용 토큰 버킷.
+ * 토큰이 부족하면 다음 토큰이 채워질 시점을 예약하고, 락 밖에서 대기한다.
+ * (가상 스레드에서 호출해도 락을 잡은 채로 대기하지 않음)
+ */
+public class TokenBucketRateLimiter {
+
+	private final String name;
+	private final double permitsPerNano;
+	private final double capacity;
+
+	private double tokens;
+	private long lastRefillNanos;
+
+	/**
+	 * @param permitsPerSecond 초당 허용 요청 수
+	 * @param capacity         순간적으로 몰아서 보낼 수 있는 최대 요청 수
+	 */
+	public TokenBucketRateLimiter(String name, double permitsPerSecond, int capacity) {
+		this.name = name;
+		this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.capacity = capacity;
+		this.tokens = capacity;
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	/**
+	 * 예약한 시점까지 대기한다. parkNanos 는 spurious wakeup / unpark / 인터럽트로 일찍 반환될 수 있으므로
+	 * 예약 시각이 지날 때까지 다시 대기한다.
+	 * 이미 예약한 토큰은 되돌리지 않으므로 인터럽트되어도 끝까지 대기하고, 인터럽트 상태는 반환 전에 복원한다.
+	 */
+	public void acquire() {
+		long waitNanos = reserve();
+		if (waitNanos <= 0) {
+			return;
+		}
+
+		long deadline = System.nanoTime() + waitNanos;
+		boolean interrupted = false;
+		long remaining;
+		while ((remaining = deadline - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(this, remaining);
+			// 인터럽트 상태로 두면 parkNanos 가 바로 반환되어 바쁜 대기가 되므로 지워두고 나중에 복원
+			if (Thread.interrupted()) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 대기하지 않는 획득. 토큰이 없으면 예약하지 않고 바로 false 를 반환한다.
+	 */
+	public synchronized boolean tryAcquire() {
+		refill();
+		if (tokens < 1) {
+			return false;
+		}
+		tokens -= 1;
+		return true;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	private synchronized long reserve() {
+		refill();
+
+		tokens -= 1;
+		if (tokens >= 0) {
+			return 0;
+		}
+		// 음수가 된 만큼 채워질 때까지 대기 (버림으로 예약 시점보다 일찍 깨지 않도록 올림)
+		return (long) Math.ceil(-tokens / permitsPerNano);
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+		lastRefillNanos = now;
+	}
+}
@@ -0,0 +1,175 @@
+package com.groom.marky.common;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 Caffeine 캐시 → Redis → 원본 호출 순으로 조회하는 2단 캐시.
+ * 원본에서 값을 찾지 못한 경우(null)도 짧은 TTL 로 캐싱해 같은 요청이 반복 호출되지 않도록 한다.
+ * 원본 호출에서 발생한 예외는 캐싱하지 않고 그대로 던진다.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+	private static final String NEGATIVE = "-";
+
+	private final String name;
+	private final StringRedisTemplate redisTemplate;
+	private final Function<V, String> encoder;
+	private final Function<String, V> decoder;
+	private final Duration ttl;
+	private final Duration negativeTtl;
+	private final Cache<String, Optional<V>> local;
+
+	private final Counter localHitCounter;
+	private final Counter redisHitCounter;
+	private final Counter missCounter;
+
+	public TwoTierCache(String name, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+		long maximumSize, Duration ttl, Duration negativeTtl,
+		Function<V, String> encoder, Function<String, V> decoder) {
+		this.name = name;
+		this.redisTemplate = redisTemplate;
+		this.encoder = encoder;
+		this.decoder = decoder;
+		this.ttl = ttl;
+		this.negativeTtl = negativeTtl;
+
+		this.local = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new Expiry<String, Optional<V>>() {
+				@Override
+				public long expireAfterCreate(String key, Optional<V> value, long currentTime) {
+					return (value.isPresent() ? ttl : negativeTtl).toNanos();
+				}
+
+				@Override
+				public long expireAfterUpdate(String key, Optional<V> value, long currentTime, long currentDuration) {
+					return expireAfterCreate(key, value, currentTime);
+				}
+
+				@Override
+				public long expireAfterRead(String key, Optional<V> value, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build();
+
+		this.localHitCounter = counter(meterRegistry, "local");
+		this.redisHitCounter = counter(meterRegistry, "redis");
+		this.missCounter = counter(meterRegistry, "miss");
+	}
+
+	/**
+	 * @param key    정규화된 캐시 키
+	 * @param loader 캐시에 없을 때 호출할 원본 조회. 값이 없으면 null 반환
+	 * @return 캐시 또는 원본의 값, 없으면 null
+	 */
+	public V get(String key, Supplier<V> loader) {
+		Optional<V> cached = lookup(key);
+		if (cached != null) {
+			return cached.orElse(null);
+		}
+
+		V loaded = loader.get();
+		put(key, loaded);
+		return loaded;
+	}
+
+	/**
+	 * 원본 호출 실패를 캐싱하지 않아야 하는 경우처럼, 조회와 저장을 호출하는 쪽에서 나눠서 처리할 때 사용
+	 * @return 캐시에 없으면 null, 결과 없음으로 캐싱된 경우 Optional.empty()
+	 */
+	public Optional<V> lookup(String key) {
+		Optional<V> cached = local.getIfPresent(key);
+		if (cached != null) {
+			localHitCounter.increment();
+			return cached;
+		}
+
+		String redisKey = RedisKeyParser.getCacheKey(name, key);
+		String stored = readRedis(redisKey);
+		if (stored != null) {
+			redisHitCounter.increment();
+			Optional<V> value = NEGATIVE.equals(stored) ? Optional.empty() : Optional.ofNullable(decoder.apply(stored));
+			local.put(key, value);
+			return value;
+		}
+
+		missCounter.increment();
+		return null;
+	}
+
+	public void put(String key, V value) {
+		local.put(key, Optional.ofNullable(value));
+
+		String redisKey = RedisKeyParser.getCacheKey(name, key);
+		try {
+			if (value == null) {
+				redisTemplate.opsForValue().set(redisKey, NEGATIVE, negativeTtl.toMillis(), TimeUnit.MILLISECONDS);
+			} else {
+				redisTemplate.opsForValue().set(redisKey, encoder.apply(value), ttl.toMillis(), TimeUnit.MILLISECONDS);
+			}
+		} catch (Exception e) {
+			log.warn("[TwoTierCache] {} Redis 저장 실패 key : {}, message : {}", name, key, e.getMessage());
+		}
+	}
+
+	/**
+	 * Redis 에 값이 없을 때만 저장한다. 이미 있는 값과 남은 TTL 은 그대로 둔다.
+	 * @return 새로 저장했으면 true
+	 */
+	public boolean putIfAbsent(String key, V value) {
+		String redisKey = RedisKeyParser.getCacheKey(name, key);
+		try {
+			String encoded = value == null ? NEGATIVE : encoder.apply(value);
+			Duration expiry = value == null ? negativeTtl : ttl;
+			boolean stored = Boolean.TRUE.equals(redisTemplate.opsForValue()
+				.setIfAbsent(redisKey, encoded, expiry.toMillis(), TimeUnit.MILLISECONDS));
+			if (stored) {
+				local.put(key, Optional.ofNullable(value));
+			}
+			return stored;
+		} catch (Exception e) {
+			log.warn("[TwoTierCache] {} Redis 저장 실패 key : {}, message : {}", name, key, e.getMessage());
+			return false;
+		}
+	}
+
+	// 공백, 대소문자 차이로 같은 장소가 다른 키가 되지 않도록 정규화
+	public static String normalizeKey(String key) {
+		return key == null ? "" : key.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+	}
+
+	private String readRedis(String redisKey) {
+		// Redis 장애 시에도 원본 조회로 계속 진행
+		try {
+			return redisTemplate.opsForValue().get(redisKey);
+		} catch (Exception e) {
+			log.warn("[TwoTierCache] {} Redis 조회 실패 key : {}, message : {}", name, redisKey, e.getMessage());
+			return null;
+		}
+	}
+
+	private Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("marky.cache.lookup")
+			.description("2단 캐시 조회 결과")
+			.tag("cache", name)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,30 @@
+package com.groom.marky.common.constant;
+
+/**
+ * 어드바이저 체인에서 ChatClientRequest.context() 로 주고받는 키
+ */
+public final class ContextKeys {
+
+	private ContextKeys() {
+	}
+
+	public static final String INTENT = "intent";
+	public static final String LOCATION = "location";
+	public static final String MOOD = "mood";
+	public static final String ORIGIN = "origin";
+	public static final String DESTINATION = "destination";
+	public static final String TIME_SLOT = "timeSlot";
+	public static final String DAY_TYPE = "dayType";
+	public static final String CATEGORY_CODE = "category_code";
+	public static final String ACTIVITY_DETAIL = "activity_detail";
+
+	// LocationResolverAdvisor 가 location 을 좌표로 변환한 결과
+	public static final String LAT = "lat";
+	public static final String LON = "lon";
+
+	// SystemRoleAdvisor 가 저장하는 사용자 입력 원본
+	public static final String USER_RAW_INPUT = "userRawInput";
+
+	// 사전 분석 단계(QueryUnderstandingService)에서 이미 추출이 끝났음을 표시
+	public static final String PREPROCESSED = "preprocessed";
+}
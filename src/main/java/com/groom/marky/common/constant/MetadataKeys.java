@@ -15,4 +15,6 @@ public final class MetadataKeys {
 	public static final String USERRATINGCOUNT = "userRatingCount";
 	public static final String RATING = "rating";
 	public static final String ACTIVITY_TYPE = "activity_type";
+	public static final String CHUNK = "chunk";
+	public static final String CHUNK_COUNT = "chunkCount";
 }
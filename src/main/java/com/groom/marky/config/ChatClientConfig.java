@@ -1,5 +1,8 @@
 package com.groom.marky.config;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.memory.MessageWindowChatMemory;
 import org.springframework.ai.chat.model.ChatModel;
@@ -15,11 +18,16 @@ import com.groom.marky.common.TmapGeocodingClient;
 import com.groom.marky.common.TmapTransitClient;
 import com.groom.marky.repository.CustomChatMemoryRepository;
 import com.groom.marky.service.KakaoPlaceSearchService;
+import com.groom.marky.service.LocalIntentClassifier;
+import com.groom.marky.service.LocationCategoryCache;
+import com.groom.marky.service.SemanticResponseCache;
 import com.groom.marky.service.advisor.ActivityDetailAdvisor;
 import com.groom.marky.service.advisor.LocationResolverAdvisor;
 import com.groom.marky.service.advisor.MultiPurposeActionAdvisor;
+import com.groom.marky.service.advisor.SemanticCacheAdvisor;
 import com.groom.marky.service.advisor.SystemRoleAdvisor;
 import com.groom.marky.service.advisor.UserIntentAdvisor;
+import com.groom.marky.service.tool.DirectToolDispatcher;
 
 
 @EnableJpaAuditing
@@ -86,8 +94,9 @@ public class ChatClientConfig {
 	}
 
 	@Bean
-	public UserIntentAdvisor userIntentAdvisor(ChatModel chatModel, ObjectMapper objectMapper) {
-		return new UserIntentAdvisor(chatModel, objectMapper);
+	public UserIntentAdvisor userIntentAdvisor(ChatModel chatModel, ObjectMapper objectMapper,
+		LocalIntentClassifier localIntentClassifier) {
+		return new UserIntentAdvisor(chatModel, objectMapper, localIntentClassifier);
 	}
 
 	@Bean
@@ -101,13 +110,19 @@ public class ChatClientConfig {
 	}
 
 	@Bean
-	public LocationResolverAdvisor locationResolverAdvisor(KakaoPlaceSearchService kakaoPlaceSearchService, ChatModel chatModel, ObjectMapper objectMapper) {
-		return new LocationResolverAdvisor(kakaoPlaceSearchService, chatModel, objectMapper);
+	public LocationResolverAdvisor locationResolverAdvisor(KakaoPlaceSearchService kakaoPlaceSearchService, ChatModel chatModel, ObjectMapper objectMapper,
+		LocationCategoryCache locationCategoryCache) {
+		return new LocationResolverAdvisor(kakaoPlaceSearchService, chatModel, objectMapper, locationCategoryCache);
+	}
+
+	@Bean
+	public MultiPurposeActionAdvisor multiPurposeActionAdvisor(DirectToolDispatcher directToolDispatcher) {
+		return new MultiPurposeActionAdvisor(directToolDispatcher);
 	}
 
 	@Bean
-	public MultiPurposeActionAdvisor multiPurposeActionAdvisor() {
-		return new MultiPurposeActionAdvisor();
+	public SemanticCacheAdvisor semanticCacheAdvisor(SemanticResponseCache semanticResponseCache) {
+		return new SemanticCacheAdvisor(semanticResponseCache);
 	}
 
 	@Bean
@@ -116,8 +131,15 @@ public class ChatClientConfig {
 	}
 
 	@Bean
-	public ActivityDetailAdvisor activityDetailAdvisor(ChatModel chatModel, ObjectMapper objectMapper) {
-		return new ActivityDetailAdvisor(chatModel, objectMapper);
+	public ActivityDetailAdvisor activityDetailAdvisor(ChatModel chatModel, ObjectMapper objectMapper,
+		LocalIntentClassifier localIntentClassifier) {
+		return new ActivityDetailAdvisor(chatModel, objectMapper, localIntentClassifier);
+	}
+
+	// 분리된 질문들을 동시에 처리하기 위한 가상 스레드 실행기
+	@Bean(destroyMethod = "close")
+	public ExecutorService chatExecutor() {
+		return Executors.newVirtualThreadPerTaskExecutor();
 	}
 
 }
@@ -0,0 +1,47 @@
+package com.groom.marky.config;
+
+import java.time.Duration;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.groom.marky.service.CachingEmbeddingModel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 자동 구성된 EmbeddingModel(Ollama) 을 CachingEmbeddingModel 로 감싼다.
+ * EmbeddingModel 빈을 직접 등록하면 Ollama 자동 구성이 빠지므로 BeanPostProcessor 로 처리.
+ */
+@Configuration
+public class EmbeddingCacheConfig {
+
+	@Bean
+	public static BeanPostProcessor cachingEmbeddingModelPostProcessor(
+		ObjectProvider<StringRedisTemplate> redisTemplate,
+		ObjectProvider<MeterRegistry> meterRegistry,
+		Environment environment) {
+
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!(bean instanceof EmbeddingModel embeddingModel) || bean instanceof CachingEmbeddingModel) {
+					return bean;
+				}
+
+				return new CachingEmbeddingModel(
+					embeddingModel,
+					redisTemplate.getObject(),
+					meterRegistry.getObject(),
+					environment.getProperty("spring.ai.ollama.embedding.options.model", "default"),
+					environment.getProperty("cache.embedding.maximum-bytes", Long.class, 64L * 1024 * 1024),
+					Duration.ofMillis(environment.getProperty("cache.embedding.ttl", Long.class, 2592000000L)));
+			}
+		};
+	}
+}
@@ -0,0 +1,36 @@
+package com.groom.marky.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.groom.marky.common.TokenBucketRateLimiter;
+
+/**
+ * 외부 API 별 호출 속도 제한. 수집 파이프라인의 동시 요청이 API 쿼터를 넘지 않도록 공유해서 사용
+ */
+@Configuration
+public class IngestionConfig {
+
+	@Bean
+	public TokenBucketRateLimiter googleRateLimiter(@Value("${rate-limit.google}") double permitsPerSecond) {
+		return new TokenBucketRateLimiter("google", permitsPerSecond, (int) Math.ceil(permitsPerSecond));
+	}
+
+	@Bean
+	public TokenBucketRateLimiter kakaoRateLimiter(@Value("${rate-limit.kakao}") double permitsPerSecond) {
+		return new TokenBucketRateLimiter("kakao", permitsPerSecond, (int) Math.ceil(permitsPerSecond));
+	}
+
+	// 채팅 중 위치 검색 전용. 수집 / 격자 분할과 토큰을 나눠 쓰지 않아 적재 중에도 사용자 요청이 밀리지 않음
+	@Bean
+	public TokenBucketRateLimiter kakaoInteractiveRateLimiter(
+		@Value("${rate-limit.kakao-interactive}") double permitsPerSecond) {
+		return new TokenBucketRateLimiter("kakao-interactive", permitsPerSecond, (int) Math.ceil(permitsPerSecond));
+	}
+
+	@Bean
+	public TokenBucketRateLimiter ollamaRateLimiter(@Value("${rate-limit.ollama}") double permitsPerSecond) {
+		return new TokenBucketRateLimiter("ollama", permitsPerSecond, (int) Math.ceil(permitsPerSecond));
+	}
+}
@@ -1,14 +1,21 @@
 package com.groom.marky.controller;
 
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
-import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,11 +26,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.marky.domain.request.CreateChatRequest;
 import com.groom.marky.domain.request.CreateConversationRequest;
 import com.groom.marky.domain.response.ChatResponse;
+import com.groom.marky.domain.response.ChatStreamEvent;
 import com.groom.marky.domain.response.CreateConversationResponse;
+import com.groom.marky.domain.response.QueryUnderstanding;
 import com.groom.marky.service.ChatClientFactory;
 import com.groom.marky.service.ConversationService;
+import com.groom.marky.service.ConversationTitleService;
+import com.groom.marky.service.QueryUnderstandingService;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 
 @Slf4j
@@ -32,124 +45,216 @@ public class ChatController {
 
 	private final ChatClientFactory chatClientFactory;
 	private final ConversationService conversationService;
-	private final ChatModel chatModel;
+	private final ConversationTitleService conversationTitleService;
+	private final QueryUnderstandingService queryUnderstandingService;
 	private final ObjectMapper objectMapper;
+	private final ExecutorService chatExecutor;
+	private final long deadlineMillis;
 
 	@Autowired
 	public ChatController(ChatClientFactory chatClientFactory,
-		ConversationService conversationService, ChatModel chatModel, ObjectMapper objectMapper) {
+		ConversationService conversationService, ConversationTitleService conversationTitleService,
+		QueryUnderstandingService queryUnderstandingService, ObjectMapper objectMapper,
+		ExecutorService chatExecutor, @Value("${chat.deadline}") long deadlineMillis) {
 		this.chatClientFactory = chatClientFactory;
 		this.conversationService = conversationService;
-		this.chatModel = chatModel;
+		this.conversationTitleService = conversationTitleService;
+		this.queryUnderstandingService = queryUnderstandingService;
 		this.objectMapper = objectMapper;
+		this.chatExecutor = chatExecutor;
+		this.deadlineMillis = deadlineMillis;
 	}
 
 
 	@PostMapping("/chat/ai")
 	public ResponseEntity<?> chat(@RequestBody CreateChatRequest request, @AuthenticationPrincipal UserDetails userDetails) {
 
-		String conversationId = request.getCid();
 		String message = request.getMessage();
-		String userEmail = userDetails.getUsername();
-
 		log.info("message : {} ", message);
 
-		ChatClient chatClientWithoutAdvisor;
+		boolean newConversation = request.getCid() == null;
+		String conversationId = resolveConversationId(request.getCid(), message, userDetails.getUsername());
 
-		if (conversationId == null) {
-			// 첫 대화. 새로 생성
-			// 프롬프트 간단하게 한번 돌려서 메세지 제목 생성
-			CreateConversationRequest conversationRequest = CreateConversationRequest.builder()
-				.conversationId(UUID.randomUUID().toString())
-				.userEmail(userEmail)
-				.build();
+		// 질문 분리와 intent / location / 카테고리 추출을 한 번의 호출로 처리
+		List<QueryUnderstanding.Question> questions = queryUnderstandingService.understand(conversationId, message);
 
-			CreateConversationResponse conversationResponse = conversationService.create(conversationRequest);
+		// 분리된 질문들을 동시에 실행하고, 응답은 질문 순서대로 담음
+		List<ChatResponse> chatResponses = askAll(conversationId, questions);
 
-			chatClientWithoutAdvisor = ChatClient.builder(chatModel).build();
+		// 답변이 끝난 뒤 백그라운드에서 제목 생성, 응답은 기다리지 않음
+		if (newConversation) {
+			conversationTitleService.generateAsync(conversationId, message);
+		}
 
-			// 입력 메시지를 프롬프트로 사용하여 제목 생성
-			String title = chatClientWithoutAdvisor.prompt()
-				.system("다음 사용자의 입력을 바탕으로, 이 대화의 제목을 한 문장으로 생성해줘.")
-				.user(message)
-				.advisors()
-				.call()
-				.content();
+		// 여러 질문 → 여러 응답 (JSON 파싱된 ChatResponse 리스트)
+		return ResponseEntity.ok(chatResponses);
 
-			// 제목 넣기
-			conversationService.setTitle(conversationResponse, title);
-			conversationId = conversationResponse.getConversationId();
-		}
+	}
 
-		ChatClient client = chatClientFactory.create(conversationId);
-
-		// 사용자 입력에 다중 목적이 포함되어 있다면, 이를 2개 이상의 분리된 질문으로 나눔
-		chatClientWithoutAdvisor = ChatClient.builder(chatModel).build();
-
-		String userQuestions = chatClientWithoutAdvisor.prompt()
-			.system("""
-				   ""\"
-			 너는 사용자의 복합 질문을 의미 단위로 "분리"하는 역할만 수행해.
-			\s
-			 - 문장의 의미를 절대로 바꾸지 마.
-			 - 표현 방식이나 말투도 바꾸지 마.
-			 - 말 그대로, 원문을 그대로 유지하면서 "질문 단위"로 나누기만 해.
-			 - 각 문장은 줄바꿈(\\\\n)으로 구분해.
-			 - 리스트나 번호는 붙이지 마.
-			 - 띄어쓰기만 보정하는 건 괜찮아.
-				
-			 예시:
-			 입력: 홍대입구역 근처는??
-			 출력:
-			 홍대입구역 근처는??
-			\s
-			 입력: 강남역에서 파스타 먹고 영화 보고 싶어
-			 출력:
-			 강남역에서 파스타 먹고 싶어
-			 강남역에서 영화 보고 싶어
-				
-			 입력: 홍대에서 분위기 좋은 카페 갔다가, 저녁엔 신촌에서 조용한 식당 가고 싶어
-			 출력:
-			 홍대에서 분위기 좋은 카페 가고 싶어
-			 저녁엔 신촌에서 조용한 식당 가고 싶어
-			 ""\"
-				""")
-			.user(message)
-			.advisors()
-			.call()
-			.content();
+	/**
+	 * /chat/ai 의 스트리밍 버전.
+	 * 각 질문의 답변 토큰은 token 이벤트로, 질문 하나가 끝나면 파싱된 응답을 response 이벤트로 전송한다.
+	 */
+	@PostMapping(value = "/chat/ai/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<ChatStreamEvent>> chatStream(@RequestBody CreateChatRequest request,
+		@AuthenticationPrincipal UserDetails userDetails) {
 
-		String[] questionArray = userQuestions.split("\\n");
+		String message = request.getMessage();
+		log.info("message (stream) : {} ", message);
 
-		List<ChatResponse> chatResponses = new ArrayList<>();
+		boolean newConversation = request.getCid() == null;
+		String conversationId = resolveConversationId(request.getCid(), message, userDetails.getUsername());
 
-		for (String q : questionArray) {
-			log.info("transformedMessage : {} ", q);
+		List<QueryUnderstanding.Question> questions = queryUnderstandingService.understand(conversationId, message);
 
-			String rawOutput = client.prompt()
-				.user(q)
-				.advisors()
-				.call()
-				.content();
+		// 질문들은 동시에 스트리밍되고, 이벤트의 index 로 어떤 질문의 응답인지 구분
+		return Flux.range(0, questions.size())
+			.flatMap(index -> streamQuestion(conversationId, index, questions.get(index)))
+			.concatWith(Mono.just(ServerSentEvent.<ChatStreamEvent>builder()
+				.event("done")
+				.data(ChatStreamEvent.builder().conversationId(conversationId).build())
+				.build()))
+			.timeout(Duration.ofMillis(deadlineMillis), Mono.just(ServerSentEvent.<ChatStreamEvent>builder()
+				.event("timeout")
+				.data(ChatStreamEvent.builder().conversationId(conversationId).response(timeoutResponse()).build())
+				.build()))
+			// 스트림이 끝난 뒤(완료 / 타임아웃 / 연결 종료) 백그라운드에서 제목 생성
+			.doFinally(signal -> {
+				if (newConversation) {
+					conversationTitleService.generateAsync(conversationId, message);
+				}
+			});
+	}
 
+	private Flux<ServerSentEvent<ChatStreamEvent>> streamQuestion(String conversationId, int index,
+		QueryUnderstanding.Question question) {
+		log.info("transformedMessage (stream) : {} ", question.question());
+
+		StringBuilder rawOutput = new StringBuilder();
+
+		Flux<ServerSentEvent<ChatStreamEvent>> tokens = chatClientFactory.prompt(conversationId)
+			.user(question.question())
+			.advisors(advisor -> advisor.params(question.toContext()))
+			.stream()
+			.content()
+			.doOnNext(rawOutput::append)
+			.map(token -> ServerSentEvent.<ChatStreamEvent>builder()
+				.event("token")
+				.data(ChatStreamEvent.builder().index(index).token(token).build())
+				.build());
+
+		Mono<ServerSentEvent<ChatStreamEvent>> response = Mono.fromCallable(() -> ServerSentEvent.<ChatStreamEvent>builder()
+			.event("response")
+			.data(ChatStreamEvent.builder().index(index).response(toChatResponse(rawOutput.toString())).build())
+			.build());
+
+		return tokens.concatWith(response)
+			.onErrorResume(e -> {
+				log.warn("[ChatController] 스트리밍 질문 처리 실패: {}, message : {}", question.question(), e.getMessage());
+				return Mono.just(ServerSentEvent.<ChatStreamEvent>builder()
+					.event("response")
+					.data(ChatStreamEvent.builder().index(index).response(failedResponse()).build())
+					.build());
+			});
+	}
+
+	private String resolveConversationId(String conversationId, String message, String userEmail) {
+		if (conversationId != null) {
+			return conversationId;
+		}
+
+		// 첫 대화. 새로 생성
+		// 목록에 바로 보이도록 첫 메시지로 만든 임시 제목을 넣고, 모델이 만든 제목은 답변 후 백그라운드에서 갱신
+		CreateConversationRequest conversationRequest = CreateConversationRequest.builder()
+			.conversationId(UUID.randomUUID().toString())
+			.title(ConversationTitleService.provisionalTitle(message))
+			.userEmail(userEmail)
+			.build();
+
+		CreateConversationResponse conversationResponse = conversationService.create(conversationRequest);
+		return conversationResponse.getConversationId();
+	}
+
+	/**
+	 * 마감 시간이 지나면 끝나지 않은 질문은 인터럽트로 취소해, 더 이상 LLM / 툴 호출을 하지 않고
+	 * 사용자가 받지 못한 답변이 대화 기록에 저장되지 않도록 한다.
+	 */
+	private List<ChatResponse> askAll(String conversationId, List<QueryUnderstanding.Question> questions) {
+		List<Callable<ChatResponse>> tasks = questions.stream()
+			.<Callable<ChatResponse>>map(q -> () -> ask(conversationId, q))
+			.toList();
+
+		List<Future<ChatResponse>> futures;
+		try {
+			futures = chatExecutor.invokeAll(tasks, deadlineMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return questions.stream().map(q -> failedResponse()).toList();
+		}
+
+		List<ChatResponse> chatResponses = new ArrayList<>();
+		for (int i = 0; i < futures.size(); i++) {
+			Future<ChatResponse> future = futures.get(i);
+			if (future.isCancelled()) {
+				log.warn("[ChatController] 질문 처리 시간 초과: {}", questions.get(i).question());
+				chatResponses.add(timeoutResponse());
+				continue;
+			}
 			try {
-				double start = System.currentTimeMillis();
-				ChatResponse chatResponse = objectMapper.readValue(rawOutput, ChatResponse.class);
-				chatResponses.add(chatResponse);
-				double end = System.currentTimeMillis();
-				log.info("Object Mapper Time Cost : {} ms", end - start);
-			} catch (Exception e) {
-				log.warn("[ChatController] JSON 파싱 실패: {}", e.getMessage());
-
-				// fallback: LLM 응답을 그냥 텍스트로 넣기
-				ChatResponse fallback = new ChatResponse();
-				fallback.setMessage(rawOutput);
-				chatResponses.add(fallback);
+				chatResponses.add(future.get());
+			} catch (ExecutionException e) {
+				log.warn("[ChatController] 질문 처리 실패: {}, message : {}", questions.get(i).question(),
+					e.getCause().getMessage());
+				chatResponses.add(failedResponse());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				chatResponses.add(failedResponse());
 			}
 		}
+		return chatResponses;
+	}
 
-		// 여러 질문 → 여러 응답 (JSON 파싱된 ChatResponse 리스트)
-		return ResponseEntity.ok(chatResponses);
+	private ChatResponse ask(String conversationId, QueryUnderstanding.Question question) {
+		log.info("transformedMessage : {} ", question.question());
+
+		// 사전 분석 결과는 어드바이저 파라미터(context)로 전달
+		String rawOutput = chatClientFactory.prompt(conversationId)
+			.user(question.question())
+			.advisors(advisor -> advisor.params(question.toContext()))
+			.call()
+			.content();
+
+		return toChatResponse(rawOutput);
+	}
+
+	private ChatResponse toChatResponse(String rawOutput) {
+		try {
+			double start = System.currentTimeMillis();
+			ChatResponse chatResponse = objectMapper.readValue(rawOutput, ChatResponse.class);
+			double end = System.currentTimeMillis();
+			log.info("Object Mapper Time Cost : {} ms", end - start);
+			return chatResponse;
+		} catch (Exception e) {
+			log.warn("[ChatController] JSON 파싱 실패: {}", e.getMessage());
+
+			// fallback: LLM 응답을 그냥 텍스트로 넣기
+			ChatResponse fallback = new ChatResponse();
+			fallback.setMessage(rawOutput);
+			return fallback;
+		}
+	}
+
+	private ChatResponse timeoutResponse() {
+		ChatResponse response = new ChatResponse();
+		response.setMessage("응답 시간이 초과되었어요. 잠시 후 다시 시도해주세요.");
+		response.setPlaces(List.of());
+		return response;
+	}
 
+	private ChatResponse failedResponse() {
+		ChatResponse response = new ChatResponse();
+		response.setMessage("요청을 처리하는 중 문제가 발생했어요. 다시 시도해주세요.");
+		response.setPlaces(List.of());
+		return response;
 	}
 }
@@ -1,7 +1,8 @@
 package com.groom.marky.controller;
 
-import java.util.Iterator;
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +13,6 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.client.HttpClientErrorException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.groom.marky.common.constant.GooglePlaceType;
@@ -25,6 +25,7 @@ import com.groom.marky.domain.response.RestaurantDescriptionBuilder;
 import com.groom.marky.service.impl.ActivityEmbeddingService;
 import com.groom.marky.service.impl.EmbeddingService;
 import com.groom.marky.service.impl.GooglePlaceSearchServiceImpl;
+import com.groom.marky.service.impl.PlaceIngestionPipeline;
 import com.groom.marky.service.impl.RedisService;
 import com.groom.marky.service.impl.SeoulPlaceSearchService;
 
@@ -38,6 +39,9 @@ public class GoogleMapController {
 	public static final String PARKING_LOT_KEYWORD = "주차장";
 	public static final String CAFE_KEYWORD = "카페";
 	public static final String RESTAURANT_KEYWORD = "음식점";
+	private static final String PARKING_LOT_JOB = "parkinglot";
+	private static final String CAFE_JOB = "cafe";
+	private static final String RESTAURANT_JOB = "restaurant";
 	private final GooglePlaceSearchServiceImpl googlePlaceSearchService;
 	private final SeoulPlaceSearchService seoulPlaceSearchService;
 	private final EmbeddingService embeddingService;
@@ -47,6 +51,7 @@ public class GoogleMapController {
 	private final RedisService redisService;
 	private final ActivityEmbeddingService activityEmbeddingService;
 	private final ActivityDescriptionBuilder activityDescriptionBuilder;
+	private final PlaceIngestionPipeline placeIngestionPipeline;
 
 	@Autowired
 	public GoogleMapController(
@@ -58,7 +63,8 @@ public class GoogleMapController {
 		, RestaurantDescriptionBuilder restaruantDescriptionBuilder
 		, ActivityDescriptionBuilder activityDescriptionBuilder
 		, CafeDescriptionBuilder cafeDescriptionBuilder
-		, RedisService redisService) {
+		, RedisService redisService
+		, PlaceIngestionPipeline placeIngestionPipeline) {
 		this.googlePlaceSearchService = googlePlaceSearchService;
 		this.seoulPlaceSearchService = seoulPlaceSearchService;
 		this.embeddingService = embeddingService;
@@ -68,6 +74,7 @@ public class GoogleMapController {
 		this.restaurantDescriptionBuilder = restaruantDescriptionBuilder;
 		this.cafeDescriptionBuilder = cafeDescriptionBuilder;
 		this.redisService = redisService;
+		this.placeIngestionPipeline = placeIngestionPipeline;
 	}
 
 	@GetMapping("/load/parkinglot")
@@ -80,27 +87,25 @@ public class GoogleMapController {
 			127.055221,
 			37.715133);
 */
-		Set<Rectangle> parkingLotRects = seoulPlaceSearchService.getParkingLotRects();
-
-		for (Rectangle rect : parkingLotRects) {
-			GooglePlacesApiResponse response =
-				googlePlaceSearchService.search(PARKING_LOT_KEYWORD, GooglePlaceType.PARKING, rect);
-
-			int placeCount = response.places().size();
-
-			if (placeCount == 0) {
-				continue;
-			}
-
-			List<GooglePlacesApiResponse.Place> filteredPlaces = embeddingService.saveParkingLotsEmbeddings(response,
-				parkingLotDescriptionBuilder);
+		// 중단된 작업이 있으면 격자 탐색 없이 남은 격자만 이어서 처리
+		// 초기 적재면 벡터 인덱스는 적재가 끝난 뒤 한 번에 생성
+		placeIngestionPipeline.submit(PARKING_LOT_JOB, () -> {
+			embeddingService.bulkLoad(() -> placeIngestionPipeline.runJob(PARKING_LOT_JOB, "주차장",
+				seoulPlaceSearchService::getParkingLotRects,
+				rect -> googlePlaceSearchService.search(PARKING_LOT_KEYWORD, GooglePlaceType.PARKING, rect),
+				(rect, response) -> {
+					if (response.places().isEmpty()) {
+						return;
+					}
 
-			redisService.setPlacesLocation(GooglePlaceType.PARKING, filteredPlaces);
-		}
+					List<GooglePlacesApiResponse.Place> filteredPlaces = embeddingService.saveParkingLotsEmbeddings(response,
+						parkingLotDescriptionBuilder);
 
-		log.info("임베딩 완료");
+					redisService.setPlacesLocation(GooglePlaceType.PARKING, filteredPlaces);
+				}));
+		});
 
-		return new ResponseEntity<>(HttpStatus.OK);
+		return accepted(PARKING_LOT_JOB);
 	}
 
 	@GetMapping("/load/cafe")
@@ -129,64 +134,24 @@ public class GoogleMapController {
 			redisService.setPlacesLocation(GooglePlaceType.CAFE, response);
 			log.info("좌표값 레디스 저장");
 		} else {
-			Set<Rectangle> cafeBoxes = seoulPlaceSearchService.getCafeRects();
-			Iterator<Rectangle> iterator = cafeBoxes.iterator();
-
 			//            Map<Rectangle, Integer> cafeBoxes = seoulPlaceSearchService.getCafeRectsMap();
-			//            Iterator<Map.Entry<Rectangle, Integer>> iterator = cafeBoxes.entrySet().iterator();
-
-			int boxQty = cafeBoxes.size();
-			int completeBox = 0;
-
-			int maxRetries = 5;
-			int retryCount = 1;
-
-			while (iterator.hasNext()) {
-				//                Map.Entry<Rectangle, Integer> entry = iterator.next();
-				//                Rectangle box = entry.getKey();
-				//                Integer count = entry.getValue();
-				Rectangle box = iterator.next();
-
-				log.info("");
-				log.info("카페 탐색: ({}, {}) ~ ({}, {})",
-					box.getLow().getLatitude(),
-					box.getLow().getLongitude(),
-					box.getHigh().getLatitude(),
-					box.getHigh().getLongitude());
-				while (retryCount <= maxRetries) {
-					try {
-						GooglePlacesApiResponse response =
-							googlePlaceSearchService.search(CAFE_KEYWORD, GooglePlaceType.CAFE, box);
-						log.info("구글 장소 검색 완료");
-
-						embeddingService.saveEmbeddings(response, cafeDescriptionBuilder);
-						log.info("임베딩 완료");
-						redisService.setPlacesLocation(GooglePlaceType.CAFE, response);
-						log.info("좌표값 레디스 저장");
-
-						break;
-					} catch (HttpClientErrorException.TooManyRequests e) {
-						log.warn("429 Too Many Requests 발생 - {}번째 재시도 예정", ++retryCount);
 
+			// 429 재시도와 호출 속도 제한은 GooglePlaceSearchService 에서 처리
+			placeIngestionPipeline.submit(CAFE_JOB, () -> {
+				embeddingService.bulkLoad(() -> placeIngestionPipeline.runJob(CAFE_JOB, "카페",
+					seoulPlaceSearchService::getCafeRects,
+					box -> googlePlaceSearchService.search(CAFE_KEYWORD, GooglePlaceType.CAFE, box),
+					(box, response) -> {
 						try {
-							Thread.sleep(10000L * retryCount);
-
-						} catch (InterruptedException ie) {
-							Thread.currentThread().interrupt();
-							throw new RuntimeException("재시도 대기 중 인터럽트 발생");
+							embeddingService.saveEmbeddings(response, cafeDescriptionBuilder);
+							redisService.setPlacesLocation(GooglePlaceType.CAFE, response);
+						} catch (DataIntegrityViolationException dive) {
+							log.warn("Data Integrity Violation 발생 rect : {}", box);
 						}
-					} catch (DataIntegrityViolationException dive) {
-						log.warn("Data Integrity Violation 발생");
-						break;
-					}
-				}
-				retryCount = 1;
-
-				log.info("{} 지역 중 {} 개 완료", boxQty, ++completeBox);
-				iterator.remove();
-			}
+					}));
+			});
+			return accepted(CAFE_JOB);
 		}
-		log.info("전체 카페 임베딩 완료");
 
 		return new ResponseEntity<>(HttpStatus.OK);
 	}
@@ -203,42 +168,41 @@ public class GoogleMapController {
 	@GetMapping("/load/restaurant")
 	public ResponseEntity<?> searchTextRestaurant() {
 
-		Set<Rectangle> restaurantRects;
-
-		try {
-			// Redis에 저장된 rect가 있다면 불러오고, 없다면 새로 생성 후 저장
-			restaurantRects = redisService.loadAllRects();
-
-			if (restaurantRects.isEmpty()) {
-				restaurantRects = seoulPlaceSearchService.getRestaurantRects();
-				redisService.saveAllRects(restaurantRects);
-				log.info("신규 격자 생성 및 Redis 저장 완료, 총 {}개", restaurantRects.size());
-			} else {
-				log.info("Redis에서 격자 불러옴, 총 {}개", restaurantRects.size());
-			}
-		} catch (JsonProcessingException e) {
-			log.error("Rect JSON 파싱 오류 발생", e);
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-		}
+		placeIngestionPipeline.submit(RESTAURANT_JOB, () -> {
+			embeddingService.bulkLoad(() -> placeIngestionPipeline.runJob(RESTAURANT_JOB, "음식점",
+				this::restaurantRects,
+				rect -> googlePlaceSearchService.search(RESTAURANT_KEYWORD, GooglePlaceType.RESTAURANT, rect),
+				(rect, response) -> {
+					if (!response.places().isEmpty()) {
+						embeddingService.saveRestaurantEmbeddings(response, restaurantDescriptionBuilder);
+						redisService.setPlacesLocation(GooglePlaceType.RESTAURANT, response);
+					}
+				}));
+			// 이관된 격자는 작업에 남아 있으므로 이전 진행 상태는 더 이상 필요 없음
+			redisService.deleteLegacyRects();
+		});
 
-		for (Rectangle rect : restaurantRects) {
-			GooglePlacesApiResponse response =
-				googlePlaceSearchService.search(RESTAURANT_KEYWORD, GooglePlaceType.RESTAURANT, rect);
+		return accepted(RESTAURANT_JOB);
+	}
 
-			int placeCount = response.places().size();
+	// 수집은 백그라운드에서 진행되므로 작업 id 만 바로 반환. 진행 상태는 /api/load/jobs/{jobId} 로 조회
+	private ResponseEntity<?> accepted(String jobId) {
+		return ResponseEntity.accepted()
+			.location(URI.create("/api/load/jobs/" + jobId))
+			.body(Map.of("jobId", jobId));
+	}
 
-			if (placeCount == 0) {
-				redisService.markRectangleAsProcessed(rect);
-				continue;
+	// 이전 방식(place:restaurant:rects:*)으로 진행 중이던 격자가 있으면 남은 것만 작업으로 옮긴다
+	private Set<Rectangle> restaurantRects() {
+		try {
+			Set<Rectangle> remaining = redisService.loadAllRects();
+			if (!remaining.isEmpty()) {
+				log.info("이전 진행 상태에서 격자 불러옴, 총 {}개", remaining.size());
+				return remaining;
 			}
-
-			embeddingService.saveRestaurantEmbeddings(response, restaurantDescriptionBuilder);
-			redisService.setPlacesLocation(GooglePlaceType.RESTAURANT, response);
-			redisService.markRectangleAsProcessed(rect);
+		} catch (JsonProcessingException e) {
+			log.warn("이전 격자 JSON 파싱 오류, 새로 생성 : {}", e.getMessage());
 		}
-
-		log.info("임베딩 완료");
-
-		return new ResponseEntity<>(HttpStatus.OK);
+		return seoulPlaceSearchService.getRestaurantRects();
 	}
 }
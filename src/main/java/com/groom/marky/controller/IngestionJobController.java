@@ -0,0 +1,42 @@
+package com.groom.marky.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.groom.marky.service.impl.IngestionJobService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/load/jobs")
+public class IngestionJobController {
+
+	private final IngestionJobService ingestionJobService;
+
+	@Autowired
+	public IngestionJobController(IngestionJobService ingestionJobService) {
+		this.ingestionJobService = ingestionJobService;
+	}
+
+	// 진행률 / 남은 시간 조회
+	@GetMapping("/{jobId}")
+	public ResponseEntity<?> getProgress(@PathVariable String jobId) {
+		return ingestionJobService.progress(jobId)
+			.<ResponseEntity<?>>map(ResponseEntity::ok)
+			.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+
+	// 진행 상태를 지워 다음 실행 때 처음부터 다시 수집
+	@DeleteMapping("/{jobId}")
+	public ResponseEntity<?> reset(@PathVariable String jobId) {
+		log.info("수집 작업 초기화 : {}", jobId);
+		ingestionJobService.reset(jobId);
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -9,9 +9,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.groom.marky.common.constant.KakaoMapCategoryGroupCode;
 import com.groom.marky.domain.request.Rectangle;
 import com.groom.marky.service.KakaoPlaceSearchService;
 import com.groom.marky.service.impl.KakaoPlaceSearchServiceImpl;
@@ -71,6 +74,17 @@ public class KakaoMapController {
 	}
 
 
+	// 저장된 격자 갱신 (full=false 면 장소 수가 바뀐 격자만 다시 분할)
+	@PostMapping("/grid/{code}/refresh")
+	public ResponseEntity<?> refreshGrid(@PathVariable("code") KakaoMapCategoryGroupCode code,
+		@RequestParam(value = "full", defaultValue = "false") boolean full) {
+
+		Map<Rectangle, Integer> rects = seoulPlaceSearchService.refreshRects(code, full);
+		log.info("{} grid refreshed {}", code, rects.size());
+
+		return new ResponseEntity<>(Map.of("code", code, "rects", rects.size()), HttpStatus.OK);
+	}
+
 	@GetMapping("/search")
 	public ResponseEntity<?> searchKeyword(@RequestParam("keyword") String keyword) {
 
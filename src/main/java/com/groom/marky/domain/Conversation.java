@@ -43,9 +43,10 @@ public class Conversation extends BaseEntity {
 	private List<ChatLog> chatLogs = new ArrayList<>();
 
 	@Builder
-	public Conversation(String conversationId, User user) {
+	public Conversation(String conversationId, User user, String title) {
 		this.conversationId = conversationId;
 		this.user = user;
+		this.title = title;
 		chatLogs = new ArrayList<>();
 	}
 
@@ -1,5 +1,7 @@
 package com.groom.marky.domain.request;
 
+import java.util.Objects;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -20,7 +22,19 @@ public class Coordinate {
 		this.longitude = longitude;
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		Coordinate that = (Coordinate)o;
+		return Double.compare(latitude, that.latitude) == 0 && Double.compare(longitude, that.longitude) == 0;
+	}
 
-
+	@Override
+	public int hashCode() {
+		return Objects.hash(latitude, longitude);
+	}
 }
 
@@ -41,6 +41,17 @@ public class Rectangle{
 		);
 	}
 
+	// toString() 형식("west,south,east,north") 복원
+	public static Rectangle fromString(String value) {
+		String[] parts = value.split(",");
+		if (parts.length != 4) {
+			throw new IllegalArgumentException("잘못된 격자 형식입니다: " + value);
+		}
+		return new Rectangle(
+			Double.parseDouble(parts[0]), Double.parseDouble(parts[1]),
+			Double.parseDouble(parts[2]), Double.parseDouble(parts[3]));
+	}
+
 	@JsonIgnore
 	public double getWest() {
 		return low.getLongitude();
@@ -0,0 +1,24 @@
+package com.groom.marky.domain.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatStreamEvent {
+
+	// 분리된 질문의 순서
+	private Integer index;
+
+	private String conversationId;
+
+	// 스트리밍 중인 답변 조각
+	private String token;
+
+	// 질문 하나의 답변이 끝났을 때 파싱된 최종 응답
+	private ChatResponse response;
+
+}
@@ -0,0 +1,222 @@
+package com.groom.marky.domain.response;
+
+import static com.groom.marky.domain.response.GooglePlacesApiResponse.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 장소 설명 템플릿. 클래스 로딩 시 한 번 만들어 두고 장소마다 render 만 호출한다.
+ * 연속된 고정 문구는 build 시점에 하나의 문자열로 합쳐 두고, 버퍼는 고정 문구 길이 + 리뷰 길이로 미리 잡아
+ * 장소 하나를 만드는 동안 버퍼가 다시 할당되지 않게 한다.
+ * 리뷰 본문은 정규식 없이 한 번 훑으면서 줄바꿈은 공백으로 바꾸고 NUL 문자는 뺀다.
+ */
+public final class DescriptionTemplate {
+
+	@FunctionalInterface
+	public interface Segment {
+		void appendTo(StringBuilder sb, Place place);
+	}
+
+	// 값 하나(이름, 주소, 평점 등)에 잡아 두는 버퍼 길이
+	private static final int VALUE_CAPACITY = 32;
+
+	private final Segment[] segments;
+	private final int capacity;
+	private final boolean hasReviews;
+
+	private DescriptionTemplate(Segment[] segments, int capacity, boolean hasReviews) {
+		this.segments = segments;
+		this.capacity = capacity;
+		this.hasReviews = hasReviews;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return 앞뒤 공백을 제거한 설명
+	 */
+	public String render(Place place) {
+		StringBuilder sb = new StringBuilder(capacity + (hasReviews ? reviewLength(place) : 0));
+		appendTo(sb, place);
+
+		int start = 0;
+		int end = sb.length();
+		while (start < end && sb.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && sb.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return sb.substring(start, end);
+	}
+
+	private void appendTo(StringBuilder sb, Place place) {
+		for (Segment segment : segments) {
+			segment.appendTo(sb, place);
+		}
+	}
+
+	public static String tf(Boolean value) {
+		if (value == null) return "정보 없음";
+		return value ? "가능" : "불가";
+	}
+
+	public static boolean hasReviews(Place place) {
+		return place.reviews() != null && !place.reviews().isEmpty();
+	}
+
+	private static int reviewLength(Place place) {
+		if (place.reviews() == null) {
+			return 0;
+		}
+		int length = 0;
+		for (Place.Review review : place.reviews()) {
+			String text = reviewText(review);
+			if (text != null) {
+				length += text.length() + 3;
+			}
+		}
+		return length;
+	}
+
+	private static String reviewText(Place.Review review) {
+		return review != null && review.text() != null ? review.text().text() : null;
+	}
+
+	// 줄바꿈 → 공백, NUL 제거. 바꿀 문자가 없으면 그대로 한 번에 붙임
+	static void appendSanitized(StringBuilder sb, String text) {
+		if (text.indexOf('\n') < 0 && text.indexOf('\u0000') < 0) {
+			sb.append(text);
+			return;
+		}
+
+		int start = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\n' || c == '\u0000') {
+				sb.append(text, start, i);
+				if (c == '\n') {
+					sb.append(' ');
+				}
+				start = i + 1;
+			}
+		}
+		sb.append(text, start, text.length());
+	}
+
+	public static final class Builder {
+
+		private final List<Segment> segments = new ArrayList<>();
+		private final StringBuilder pending = new StringBuilder();
+		private int capacity;
+		private boolean hasReviews;
+
+		private Builder() {
+		}
+
+		public Builder literal(String text) {
+			pending.append(text);
+			return this;
+		}
+
+		public Builder text(Function<Place, String> value) {
+			capacity += VALUE_CAPACITY;
+			return segment((sb, place) -> sb.append(value.apply(place)));
+		}
+
+		public Builder number(ToDoubleFunction<Place> value) {
+			capacity += VALUE_CAPACITY;
+			return segment((sb, place) -> sb.append(value.applyAsDouble(place)));
+		}
+
+		public Builder integer(ToIntFunction<Place> value) {
+			capacity += VALUE_CAPACITY;
+			return segment((sb, place) -> sb.append(value.applyAsInt(place)));
+		}
+
+		// "{label}가능|불가|정보 없음\n"
+		public Builder flag(String label, Function<Place, Boolean> value) {
+			literal(label);
+			capacity += 5;
+			segment((sb, place) -> sb.append(tf(value.apply(place))));
+			return literal("\n");
+		}
+
+		// 값이 null 이면 줄 자체를 생략
+		public Builder flagIfKnown(String label, Function<Place, Boolean> value) {
+			return when(place -> value.apply(place) != null, then -> then.flag(label, value));
+		}
+
+		public Builder when(Predicate<Place> condition, Consumer<Builder> then) {
+			return when(condition, then, otherwise -> {
+			});
+		}
+
+		public Builder when(Predicate<Place> condition, Consumer<Builder> then, Consumer<Builder> otherwise) {
+			DescriptionTemplate thenTemplate = nested(then);
+			DescriptionTemplate otherwiseTemplate = nested(otherwise);
+			capacity += Math.max(thenTemplate.capacity, otherwiseTemplate.capacity);
+			return segment((sb, place) -> (condition.test(place) ? thenTemplate : otherwiseTemplate).appendTo(sb, place));
+		}
+
+		// 본문이 있는 리뷰를 최대 limit 개까지 "- {리뷰}\n" 로 붙임
+		public Builder reviews(int limit) {
+			hasReviews = true;
+			return segment((sb, place) -> {
+				if (place.reviews() == null) {
+					return;
+				}
+				int count = 0;
+				for (Place.Review review : place.reviews()) {
+					String text = reviewText(review);
+					if (text == null) {
+						continue;
+					}
+					if (count++ >= limit) {
+						break;
+					}
+					sb.append("- ");
+					appendSanitized(sb, text);
+					sb.append('\n');
+				}
+			});
+		}
+
+		public Builder segment(Segment segment) {
+			flush();
+			segments.add(segment);
+			return this;
+		}
+
+		public DescriptionTemplate build() {
+			flush();
+			return new DescriptionTemplate(segments.toArray(new Segment[0]), capacity, hasReviews);
+		}
+
+		private DescriptionTemplate nested(Consumer<Builder> branch) {
+			Builder builder = new Builder();
+			branch.accept(builder);
+			DescriptionTemplate template = builder.build();
+			hasReviews |= template.hasReviews;
+			return template;
+		}
+
+		private void flush() {
+			if (pending.isEmpty()) {
+				return;
+			}
+			String literal = pending.toString();
+			capacity += literal.length();
+			segments.add((sb, place) -> sb.append(literal));
+			pending.setLength(0);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.groom.marky.domain.response;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestionJobProgress {
+
+	public enum Status {
+		PREPARING, RUNNING, COMPLETED, COMPLETED_WITH_FAILURES
+	}
+
+	private String jobId;
+	private Status status;
+
+	private long total;
+	private long pending;
+	private long inFlight;
+	private long done;
+	private long failed;
+
+	// 완료(성공 + 실패) 비율, 0 ~ 100
+	private double percent;
+
+	// 마지막 재개 이후 분당 처리 수
+	private Double throughputPerMinute;
+
+	// 남은 작업 예상 소요 시간(초), 처리량을 아직 알 수 없으면 null
+	private Long etaSeconds;
+
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+	private LocalDateTime createdAt;
+
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+	private LocalDateTime resumedAt;
+}
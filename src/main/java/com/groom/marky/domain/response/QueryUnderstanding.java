@@ -0,0 +1,72 @@
+package com.groom.marky.domain.response;
+
+import static com.groom.marky.common.constant.ContextKeys.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 사용자 메시지 하나를 한 번의 LLM 호출로 분석한 결과.
+ * 복합 질문 분리와 intent / location / mood / 경로 / 카테고리 코드 / activity_detail 추출을 함께 담는다.
+ */
+public record QueryUnderstanding(List<Question> questions) {
+
+	public record Question(
+		String question,
+		String intent,
+		String location,
+		String mood,
+		String origin,
+		String destination,
+		String timeSlot,
+		String dayType,
+		@JsonProperty("category_code") String categoryCode,
+		@JsonProperty("activity_detail") String activityDetail
+	) {
+
+		// 사전 분석 없이 원문 그대로 어드바이저 체인에 넘길 때 사용
+		public static Question raw(String question) {
+			return new Question(question, null, null, null, null, null, null, null, null, null);
+		}
+
+		public Question withQuestion(String question) {
+			return new Question(question, intent, location, mood, origin, destination, timeSlot, dayType,
+				categoryCode, activityDetail);
+		}
+
+		/**
+		 * 어드바이저 파라미터로 넘길 context.
+		 * intent 가 없으면 사전 분석이 실패한 것으로 보고 빈 맵을 반환해, 각 어드바이저가 직접 추출하도록 둔다.
+		 */
+		public Map<String, Object> toContext() {
+			if (intent == null) {
+				return Map.of();
+			}
+
+			Map<String, Object> context = new HashMap<>();
+			context.put(PREPROCESSED, true);
+			context.put(INTENT, intent);
+			context.put(LOCATION, nullToEmpty(location));
+			context.put(MOOD, nullToEmpty(mood));
+			context.put(ORIGIN, nullToEmpty(origin));
+			context.put(DESTINATION, nullToEmpty(destination));
+			context.put(TIME_SLOT, nullToEmpty(timeSlot));
+			context.put(DAY_TYPE, nullToEmpty(dayType));
+
+			if (categoryCode != null && !categoryCode.isBlank()) {
+				context.put(CATEGORY_CODE, categoryCode);
+			}
+			if (activityDetail != null && !activityDetail.isBlank()) {
+				context.put(ACTIVITY_DETAIL, activityDetail);
+			}
+			return context;
+		}
+
+		private static String nullToEmpty(String value) {
+			return value == null ? "" : value;
+		}
+	}
+}
@@ -0,0 +1,298 @@
+package com.groom.marky.repository;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대량 적재용 vector_store 쓰기.
+ * 행 단위 INSERT 대신 임시 테이블에 COPY (binary) 로 밀어넣은 뒤 한 번의 INSERT ... ON CONFLICT 로 upsert 한다.
+ * 초기 적재처럼 테이블이 거의 비어 있을 때는 HNSW 인덱스를 내렸다가 적재가 끝난 뒤 한 번에 다시 만든다.
+ * 내린 인덱스 정의는 먼저 vector_store_deferred_index 테이블에 저장해 두므로, 적재 중 프로세스가 죽어도
+ * 다음 기동 시 다시 만든다.
+ */
+@Slf4j
+@Repository
+public class PlaceVectorBulkRepository {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private PlaceVectorRepository placeVectorRepository;
+
+	// 이 행 수보다 적을 때만 인덱스를 내림 (운영 중인 테이블의 검색 성능은 유지)
+	@Value("${ingestion.bulk.defer-index-below-rows}")
+	private long deferIndexBelowRows;
+
+	// binary COPY 헤더 : 시그니처 11바이트 + flags + 헤더 확장 길이
+	private static final byte[] COPY_SIGNATURE = "PGCOPY\n\377\r\n\0".getBytes(StandardCharsets.ISO_8859_1);
+
+	// 트랜잭션이 끝나면 비워지는 세션 임시 테이블, 커넥션 풀에서 재사용된다
+	private static final String CREATE_STAGING_SQL = """
+		CREATE TEMP TABLE IF NOT EXISTS vector_store_staging (
+			id uuid, content text, metadata text, embedding vector, content_hash text
+		) ON COMMIT DELETE ROWS
+		""";
+
+	private static final String COPY_SQL =
+		"COPY vector_store_staging (id, content, metadata, embedding, content_hash) FROM STDIN WITH (FORMAT binary)";
+
+	private static final String UPSERT_FROM_STAGING_SQL = """
+		INSERT INTO vector_store (id, content, metadata, embedding, content_hash)
+		SELECT id, content, CAST(metadata AS %s), embedding, content_hash
+		FROM vector_store_staging
+		ON CONFLICT (id) DO UPDATE SET
+			content = EXCLUDED.content,
+			metadata = EXCLUDED.metadata,
+			embedding = EXCLUDED.embedding,
+			content_hash = EXCLUDED.content_hash
+		""";
+
+	private static final String VECTOR_INDEX_SQL = """
+		SELECT indexname, indexdef
+		FROM pg_indexes
+		WHERE tablename = 'vector_store' AND (indexdef ILIKE '%USING hnsw%' OR indexdef ILIKE '%USING ivfflat%')
+		""";
+
+	private static final String COUNT_SQL = "SELECT count(*) FROM vector_store";
+
+	private static final String CREATE_DEFERRED_INDEX_TABLE_SQL = """
+		CREATE TABLE IF NOT EXISTS vector_store_deferred_index (
+			indexname text PRIMARY KEY, indexdef text NOT NULL
+		)
+		""";
+
+	private static final String SAVE_DEFERRED_INDEX_SQL = """
+		INSERT INTO vector_store_deferred_index (indexname, indexdef) VALUES (?, ?)
+		ON CONFLICT (indexname) DO UPDATE SET indexdef = EXCLUDED.indexdef
+		""";
+
+	private static final String FIND_DEFERRED_INDEX_SQL = "SELECT indexname, indexdef FROM vector_store_deferred_index";
+
+	private static final String DELETE_DEFERRED_INDEX_SQL = "DELETE FROM vector_store_deferred_index WHERE indexname = ?";
+
+	private static final String INDEX_EXISTS_SQL = "SELECT count(*) FROM pg_indexes WHERE indexname = ?";
+
+	private final Object indexLock = new Object();
+	private int deferDepth = 0;
+	private Map<String, String> deferredIndexes = Map.of();
+
+	/**
+	 * @param embeddings documents 와 같은 순서의 임베딩
+	 * @param hashes     document id → content_hash
+	 * @return upsert 된 행 수
+	 */
+	public int upsert(List<Document> documents, List<float[]> embeddings, Map<String, String> hashes) {
+		// 같은 id 가 두 번 들어오면 ON CONFLICT 가 실패하므로 마지막 값만 남김
+		Map<String, Integer> lastIndexById = new LinkedHashMap<>();
+		for (int i = 0; i < documents.size(); i++) {
+			lastIndexById.put(documents.get(i).getId(), i);
+		}
+
+		List<Integer> rows = new ArrayList<>(lastIndexById.values());
+		String upsertSql = UPSERT_FROM_STAGING_SQL.formatted(placeVectorRepository.getMetadataType());
+
+		Integer upserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try (Statement statement = connection.createStatement()) {
+				statement.execute(CREATE_STAGING_SQL);
+				copy(connection, documents, embeddings, hashes, rows);
+				int count = statement.executeUpdate(upsertSql);
+				connection.commit();
+				return count;
+			} catch (SQLException | IOException | RuntimeException e) {
+				connection.rollback();
+				throw e instanceof SQLException sqlException ? sqlException : new SQLException(e.getMessage(), e);
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		});
+		return upserted == null ? 0 : upserted;
+	}
+
+	/**
+	 * 테이블이 거의 비어 있으면 벡터 인덱스를 내린 채로 load 를 실행하고, 끝나면 다시 만든다.
+	 * 같은 노드에서 여러 적재가 겹치면 마지막 적재가 끝날 때 한 번만 다시 만든다.
+	 */
+	public <T> T withDeferredIndexes(Supplier<T> load) {
+		deferIndexes();
+		try {
+			return load.get();
+		} finally {
+			restoreIndexes();
+		}
+	}
+
+	private void deferIndexes() {
+		synchronized (indexLock) {
+			if (deferDepth++ > 0) {
+				return;
+			}
+			try {
+				Long rows = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+				if (rows == null || rows >= deferIndexBelowRows) {
+					return;
+				}
+
+				Map<String, String> indexes = new LinkedHashMap<>();
+				jdbcTemplate.query(VECTOR_INDEX_SQL,
+					rs -> {
+						indexes.put(rs.getString("indexname"), rs.getString("indexdef"));
+					});
+				// 정의를 먼저 저장해야 적재 중 프로세스가 죽어도 기동 시 다시 만들 수 있음
+				jdbcTemplate.execute(CREATE_DEFERRED_INDEX_TABLE_SQL);
+				for (Map.Entry<String, String> index : indexes.entrySet()) {
+					jdbcTemplate.update(SAVE_DEFERRED_INDEX_SQL, index.getKey(), index.getValue());
+				}
+				for (String indexName : indexes.keySet()) {
+					jdbcTemplate.execute("DROP INDEX IF EXISTS \"" + indexName + "\"");
+				}
+				deferredIndexes = indexes;
+				log.info("[PlaceVectorBulkRepository] 적재 동안 벡터 인덱스 제거 : {} (현재 {}행)", indexes.keySet(), rows);
+			} catch (Exception e) {
+				log.warn("[PlaceVectorBulkRepository] 벡터 인덱스 제거 실패, 인덱스 유지한 채 적재 : {}", e.getMessage());
+			}
+		}
+	}
+
+	private void restoreIndexes() {
+		synchronized (indexLock) {
+			if (--deferDepth > 0 || deferredIndexes.isEmpty()) {
+				return;
+			}
+
+			long start = System.currentTimeMillis();
+			deferredIndexes.forEach(this::recreateIndex);
+			log.info("[PlaceVectorBulkRepository] 벡터 인덱스 재생성 완료 : {}, {} ms", deferredIndexes.keySet(),
+				System.currentTimeMillis() - start);
+			deferredIndexes = Map.of();
+		}
+	}
+
+	/**
+	 * 이전 프로세스가 적재 도중 종료되어 다시 만들지 못한 벡터 인덱스를 복구한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void restorePendingIndexes() {
+		synchronized (indexLock) {
+			Map<String, String> pending = new LinkedHashMap<>();
+			try {
+				jdbcTemplate.execute(CREATE_DEFERRED_INDEX_TABLE_SQL);
+				jdbcTemplate.query(FIND_DEFERRED_INDEX_SQL,
+					rs -> {
+						pending.put(rs.getString("indexname"), rs.getString("indexdef"));
+					});
+			} catch (Exception e) {
+				log.warn("[PlaceVectorBulkRepository] 복구할 벡터 인덱스 조회 실패 : {}", e.getMessage());
+				return;
+			}
+
+			if (!pending.isEmpty()) {
+				log.info("[PlaceVectorBulkRepository] 적재 중 제거된 벡터 인덱스 복구 : {}", pending.keySet());
+				pending.forEach(this::recreateIndex);
+			}
+		}
+	}
+
+	// 성공하거나 이미 있으면 저장된 정의를 지움. 실패하면 남겨 두고 다음 기동 때 다시 시도
+	private void recreateIndex(String indexName, String indexDef) {
+		try {
+			Long exists = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Long.class, indexName);
+			if (exists == null || exists == 0) {
+				jdbcTemplate.execute(indexDef);
+			}
+			jdbcTemplate.update(DELETE_DEFERRED_INDEX_SQL, indexName);
+		} catch (Exception e) {
+			log.error("[PlaceVectorBulkRepository] 벡터 인덱스 재생성 실패 {} : {}", indexName, e.getMessage());
+		}
+	}
+
+	private void copy(Connection connection, List<Document> documents, List<float[]> embeddings,
+		Map<String, String> hashes, List<Integer> rows) throws SQLException, IOException {
+
+		PGConnection pgConnection = connection.unwrap(PGConnection.class);
+		try (DataOutputStream out = new DataOutputStream(
+			new BufferedOutputStream(new PGCopyOutputStream(pgConnection, COPY_SQL), 64 * 1024))) {
+
+			out.write(COPY_SIGNATURE);
+			out.writeInt(0);
+			out.writeInt(0);
+
+			for (int row : rows) {
+				Document document = documents.get(row);
+				out.writeShort(5);
+				writeUuid(out, UUID.fromString(document.getId()));
+				writeText(out, document.getText());
+				writeText(out, toJson(document.getMetadata()));
+				writeVector(out, embeddings.get(row));
+				writeText(out, hashes.get(document.getId()));
+			}
+			out.writeShort(-1);
+		}
+	}
+
+	private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+		out.writeInt(16);
+		out.writeLong(uuid.getMostSignificantBits());
+		out.writeLong(uuid.getLeastSignificantBits());
+	}
+
+	private static void writeText(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	// pgvector binary 형식 : int16 차원 수, int16 예약(0), float4 * 차원 수 (big-endian)
+	private static void writeVector(DataOutputStream out, float[] vector) throws IOException {
+		out.writeInt(4 + vector.length * 4);
+		out.writeShort(vector.length);
+		out.writeShort(0);
+		for (float value : vector) {
+			out.writeFloat(value);
+		}
+	}
+
+	private String toJson(Map<String, Object> metadata) {
+		try {
+			return objectMapper.writeValueAsString(metadata);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("metadata 직렬화 실패", e);
+		}
+	}
+}
@@ -0,0 +1,314 @@
+package com.groom.marky.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.postgresql.util.PGobject;
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pgvector.PGvector;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 후보 장소 ID 배열을 하나의 파라미터(= ANY(?))로 넘겨 vector_store 에서 유사도 검색.
+ * VectorStore 의 filterExpression 은 ID 마다 OR 조건을 만들어 후보가 많을수록 SQL 이 길어지므로,
+ * SQL 을 고정해 prepared statement 가 재사용되도록 한다.
+ */
+@Slf4j
+@Repository
+public class PlaceVectorRepository {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// 위경도 generated column + GiST 인덱스로 반경 필터와 유사도 정렬을 한 번의 쿼리로 처리 (PostGIS 필요)
+	@Value("${search.geo-native.enabled:false}")
+	private boolean geoNativeEnabled;
+
+	private volatile boolean geoNativeReady = false;
+
+	// 한 장소의 청크 점수 합산 방식, mean 이 아니면 max (가장 가까운 청크)
+	@Value("${search.chunk-pooling:max}")
+	private String chunkPooling;
+
+	private volatile boolean contentHashReady = false;
+
+	// Spring AI 기본 스키마는 json, 직접 만든 테이블은 jsonb 일 수 있어 기동 시 확인
+	private volatile String metadataType = "json";
+
+	private static final String GOOGLE_PLACE_ID_INDEX_SQL = """
+		CREATE INDEX IF NOT EXISTS vector_store_google_place_id_idx
+		ON vector_store ((metadata->>'googlePlaceId'))
+		""";
+
+	// cosine distance 기준, similarity = 1 - distance
+	// 긴 설명은 여러 청크로 저장되므로 googlePlaceId 별로 점수를 합쳐(max 또는 mean) 장소당 한 행만 반환,
+	// 본문은 가장 가까운 청크를 사용
+	private static final String POOLED_SEARCH_SQL = """
+		SELECT id, content, metadata, distance
+		FROM (
+			SELECT id, content, metadata,
+				CASE WHEN ? THEN avg(chunk_distance) OVER place ELSE min(chunk_distance) OVER place END AS distance,
+				row_number() OVER (place ORDER BY chunk_distance) AS chunk_rank
+			FROM (
+				SELECT id, content, metadata, COALESCE(metadata->>'googlePlaceId', id::text) AS place_id,
+					embedding <=> ? AS chunk_distance
+				FROM vector_store
+				WHERE %s
+			) chunks
+			WINDOW place AS (PARTITION BY place_id)
+		) candidates
+		WHERE chunk_rank = 1 AND distance <= ?
+		ORDER BY distance
+		LIMIT ?
+		""";
+
+	private static final String SEARCH_BY_IDS_SQL = POOLED_SEARCH_SQL.formatted(
+		"metadata->>'googlePlaceId' = ANY(?)");
+
+	// 캐싱된 검색 결과(id, distance) 를 원래 순서대로 다시 조회
+	private static final String FIND_BY_IDS_SQL = """
+		SELECT v.id, v.content, v.metadata, c.distance
+		FROM unnest(CAST(? AS uuid[]), CAST(? AS float8[])) WITH ORDINALITY AS c(id, distance, ord)
+		JOIN vector_store v ON v.id = c.id
+		ORDER BY c.ord
+		""";
+
+	// 청크 수가 줄어든 장소의 남은 청크 삭제 (청크 메타데이터가 없는 행은 0번 청크)
+	private static final String DELETE_CHUNKS_BEYOND_SQL = """
+		DELETE FROM vector_store v
+		USING unnest(CAST(? AS text[]), CAST(? AS int[])) AS c(place_id, chunk_count)
+		WHERE v.metadata->>'googlePlaceId' = c.place_id
+		AND COALESCE(CAST(v.metadata->>'chunk' AS int), 0) >= c.chunk_count
+		""";
+
+	// 임베딩 대상 본문 / 메타데이터 해시, 변경 없는 장소는 다시 임베딩하지 않음
+	private static final String CONTENT_HASH_COLUMN_SQL =
+		"ALTER TABLE vector_store ADD COLUMN IF NOT EXISTS content_hash text";
+
+	private static final String FIND_CONTENT_HASHES_SQL = """
+		SELECT id, content_hash
+		FROM vector_store
+		WHERE id = ANY(CAST(? AS uuid[]))
+		""";
+
+	private static final String METADATA_TYPE_SQL = """
+		SELECT format_type(atttypid, atttypmod)
+		FROM pg_attribute
+		WHERE attrelid = 'vector_store'::regclass AND attname = 'metadata'
+		""";
+
+	private static final String UPDATE_METADATA_SQL =
+		"UPDATE vector_store SET metadata = CAST(? AS %s), content_hash = ? WHERE id = CAST(? AS uuid)";
+
+	private static final List<String> GEO_COLUMN_SQL = List.of(
+		"CREATE EXTENSION IF NOT EXISTS postgis",
+		"""
+		ALTER TABLE vector_store ADD COLUMN IF NOT EXISTS location geography(Point, 4326)
+		GENERATED ALWAYS AS (
+			ST_SetSRID(ST_MakePoint((metadata->>'lon')::double precision, (metadata->>'lat')::double precision), 4326)::geography
+		) STORED
+		""",
+		"CREATE INDEX IF NOT EXISTS vector_store_location_idx ON vector_store USING gist (location)"
+	);
+
+	// 반경 필터 후 후보 내에서 cosine distance 로 정렬
+	private static final String SEARCH_WITHIN_RADIUS_SQL = POOLED_SEARCH_SQL.formatted("""
+		ST_DWithin(location, ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography, ?)
+				AND metadata->>'type' = ?
+				AND (CAST(? AS text) IS NULL OR metadata->>'activity_type' = ?)""");
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void createIndexes() {
+		try {
+			jdbcTemplate.execute(GOOGLE_PLACE_ID_INDEX_SQL);
+			log.info("[PlaceVectorRepository] googlePlaceId 인덱스 확인 완료");
+		} catch (Exception e) {
+			log.warn("[PlaceVectorRepository] googlePlaceId 인덱스 생성 실패 : {}", e.getMessage());
+		}
+
+		// 실패하면 해시 비교 없이 항상 임베딩
+		try {
+			jdbcTemplate.execute(CONTENT_HASH_COLUMN_SQL);
+			metadataType = jdbcTemplate.queryForObject(METADATA_TYPE_SQL, String.class);
+			contentHashReady = true;
+			log.info("[PlaceVectorRepository] content_hash 컬럼 확인 완료");
+		} catch (Exception e) {
+			log.warn("[PlaceVectorRepository] content_hash 컬럼 생성 실패 : {}", e.getMessage());
+		}
+
+		if (!geoNativeEnabled) {
+			return;
+		}
+
+		// 준비에 실패하면 기존 Redis 반경 검색 → ID 필터 방식으로 동작
+		try {
+			GEO_COLUMN_SQL.forEach(jdbcTemplate::execute);
+			geoNativeReady = true;
+			log.info("[PlaceVectorRepository] location 컬럼 / GiST 인덱스 확인 완료");
+		} catch (Exception e) {
+			log.warn("[PlaceVectorRepository] location 컬럼 생성 실패, Redis 반경 검색 사용 : {}", e.getMessage());
+		}
+	}
+
+	public boolean isGeoNativeReady() {
+		return geoNativeReady;
+	}
+
+	public List<Document> similaritySearchByPlaceIds(float[] queryEmbedding, List<String> placeIds,
+		int topK, double similarityThreshold) {
+
+		if (placeIds == null || placeIds.isEmpty()) {
+			return List.of();
+		}
+
+		return jdbcTemplate.query(
+			SEARCH_BY_IDS_SQL,
+			this::toDocument,
+			isMeanPooling(),
+			new PGvector(queryEmbedding),
+			placeIds.toArray(new String[0]),
+			1 - similarityThreshold,
+			topK);
+	}
+
+	/**
+	 * @param type         metadata 의 type (GooglePlaceType.getGoogleType)
+	 * @param activityType 액티비티 세부 분류, 필터하지 않으면 null
+	 */
+	public List<Document> similaritySearchWithinRadius(float[] queryEmbedding, String type, String activityType,
+		double lat, double lon, double radiusKm, int topK, double similarityThreshold) {
+
+		return jdbcTemplate.query(
+			SEARCH_WITHIN_RADIUS_SQL,
+			this::toDocument,
+			isMeanPooling(),
+			new PGvector(queryEmbedding),
+			lon, lat, radiusKm * 1000,
+			type,
+			activityType, activityType,
+			1 - similarityThreshold,
+			topK);
+	}
+
+	/**
+	 * 이전 검색 결과를 id 로 다시 조회한다. 유사도 계산 없이 기본 키로만 찾으며, 점수는 저장해 둔 distance 를 사용한다.
+	 * @param ids       vector_store id (검색 결과 순서)
+	 * @param distances ids 와 같은 순서의 distance
+	 * @return 남아 있는 행만 ids 순서대로
+	 */
+	public List<Document> findByIds(List<String> ids, List<Double> distances) {
+		if (ids == null || ids.isEmpty()) {
+			return List.of();
+		}
+
+		return jdbcTemplate.query(
+			FIND_BY_IDS_SQL,
+			this::toDocument,
+			ids.toArray(new String[0]),
+			distances.toArray(new Double[0]));
+	}
+
+	public boolean isContentHashReady() {
+		return contentHashReady;
+	}
+
+	public String getMetadataType() {
+		return metadataType;
+	}
+
+	/**
+	 * @return document id → 저장된 content_hash (해시가 없는 행은 null 값으로 포함)
+	 */
+	public Map<String, String> findContentHashes(Collection<String> ids) {
+		Map<String, String> hashes = new HashMap<>();
+		if (ids.isEmpty()) {
+			return hashes;
+		}
+
+		jdbcTemplate.query(FIND_CONTENT_HASHES_SQL,
+			(RowCallbackHandler) rs -> hashes.put(rs.getString("id"), rs.getString("content_hash")),
+			(Object) ids.toArray(new String[0]));
+		return hashes;
+	}
+
+	// 본문이 그대로면 임베딩 없이 메타데이터(평점, 리뷰 수 등)만 갱신
+	public void updateMetadata(List<Document> documents, Map<String, String> hashes) {
+		List<Object[]> args = new ArrayList<>(documents.size());
+		for (Document document : documents) {
+			try {
+				args.add(new Object[] {
+					objectMapper.writeValueAsString(document.getMetadata()),
+					hashes.get(document.getId()),
+					document.getId()});
+			} catch (JsonProcessingException e) {
+				log.warn("[PlaceVectorRepository] metadata 직렬화 실패 id : {}, message : {}", document.getId(),
+					e.getMessage());
+			}
+		}
+		jdbcTemplate.batchUpdate(UPDATE_METADATA_SQL.formatted(metadataType), args);
+	}
+
+	/**
+	 * @param chunkCounts googlePlaceId → 이번에 저장한 청크 수
+	 */
+	public void deleteChunksBeyond(Map<String, Integer> chunkCounts) {
+		if (chunkCounts.isEmpty()) {
+			return;
+		}
+
+		int deleted = jdbcTemplate.update(DELETE_CHUNKS_BEYOND_SQL,
+			chunkCounts.keySet().toArray(new String[0]),
+			chunkCounts.values().toArray(new Integer[0]));
+		if (deleted > 0) {
+			log.info("[PlaceVectorRepository] 이전 청크 {}개 삭제", deleted);
+		}
+	}
+
+	private boolean isMeanPooling() {
+		return "mean".equalsIgnoreCase(chunkPooling);
+	}
+
+	private Document toDocument(ResultSet rs, int rowNum) throws SQLException {
+		double distance = rs.getDouble("distance");
+		Map<String, Object> metadata = toMetadata(rs.getObject("metadata"));
+		metadata.put("distance", distance);
+
+		return Document.builder()
+			.id(rs.getString("id"))
+			.text(rs.getString("content"))
+			.metadata(metadata)
+			.score(1 - distance)
+			.build();
+	}
+
+	private Map<String, Object> toMetadata(Object metadataObj) {
+		try {
+			if (metadataObj instanceof PGobject pgObject) {
+				return objectMapper.readValue(pgObject.getValue(), new TypeReference<HashMap<String, Object>>() {});
+			}
+		} catch (Exception e) {
+			log.warn("[PlaceVectorRepository] metadata 파싱 실패 : {}", e.getMessage());
+		}
+		return new HashMap<>();
+	}
+}
@@ -0,0 +1,170 @@
+package com.groom.marky.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.BatchingStrategy;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groom.marky.common.RedisKeyParser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 쿼리(mood) 임베딩을 캐싱하는 EmbeddingModel 데코레이터.
+ * 로컬에는 float[] 그대로, Redis 에는 float 바이트 배열(little endian)로 저장한다.
+ * 문서 임베딩(call, embed(Document), 배치 임베딩)은 캐싱하지 않고 그대로 위임한다.
+ */
+@Slf4j
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+	private static final String EMBEDDING_CACHE = "embedding";
+
+	private final EmbeddingModel delegate;
+	private final StringRedisTemplate redisTemplate;
+	private final String modelName;
+	private final Duration ttl;
+
+	// key : 정규화된 텍스트, value : 임베딩 벡터. 가중치는 벡터 바이트 수
+	private final Cache<String, float[]> local;
+
+	private final Counter localHitCounter;
+	private final Counter redisHitCounter;
+	private final Counter missCounter;
+
+	public CachingEmbeddingModel(EmbeddingModel delegate, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+		String modelName, long maximumBytes, Duration ttl) {
+		this.delegate = delegate;
+		this.redisTemplate = redisTemplate;
+		this.modelName = modelName;
+		this.ttl = ttl;
+
+		this.local = Caffeine.newBuilder()
+			.maximumWeight(maximumBytes)
+			.weigher((String key, float[] vector) -> vector.length * Float.BYTES)
+			.expireAfterWrite(ttl)
+			.build();
+
+		this.localHitCounter = counter(meterRegistry, "local");
+		this.redisHitCounter = counter(meterRegistry, "redis");
+		this.missCounter = counter(meterRegistry, "miss");
+	}
+
+	@Override
+	public float[] embed(String text) {
+		String normalized = normalize(text);
+
+		float[] cached = local.getIfPresent(normalized);
+		if (cached != null) {
+			localHitCounter.increment();
+			return cached;
+		}
+
+		byte[] redisKey = redisKey(normalized);
+		byte[] stored = readRedis(redisKey);
+		if (stored != null) {
+			redisHitCounter.increment();
+			float[] vector = decode(stored);
+			local.put(normalized, vector);
+			return vector;
+		}
+
+		missCounter.increment();
+		float[] vector = delegate.embed(normalized);
+		local.put(normalized, vector);
+		writeRedis(redisKey, encode(vector));
+		return vector;
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		return delegate.call(request);
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		return delegate.embed(document);
+	}
+
+	@Override
+	public List<float[]> embed(List<Document> documents, EmbeddingOptions options, BatchingStrategy batchingStrategy) {
+		return delegate.embed(documents, options, batchingStrategy);
+	}
+
+	@Override
+	public int dimensions() {
+		return delegate.dimensions();
+	}
+
+	// 앞뒤 공백 제거, 연속 공백은 하나로
+	private String normalize(String text) {
+		return text == null ? "" : text.strip().replaceAll("\\s+", " ");
+	}
+
+	// 텍스트 길이와 무관하게 키 길이를 고정하기 위해 해시 사용
+	private byte[] redisKey(String normalized) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+			String key = RedisKeyParser.getCacheKey(EMBEDDING_CACHE, modelName + ":" + HexFormat.of().formatHex(hash));
+			return key.getBytes(StandardCharsets.UTF_8);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private byte[] readRedis(byte[] key) {
+		try {
+			return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+		} catch (Exception e) {
+			log.warn("[CachingEmbeddingModel] Redis 조회 실패 : {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeRedis(byte[] key, byte[] value) {
+		try {
+			redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+				.set(key, value, Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+		} catch (Exception e) {
+			log.warn("[CachingEmbeddingModel] Redis 저장 실패 : {}", e.getMessage());
+		}
+	}
+
+	static byte[] encode(float[] vector) {
+		ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.asFloatBuffer().put(vector);
+		return buffer.array();
+	}
+
+	static float[] decode(byte[] bytes) {
+		float[] vector = new float[bytes.length / Float.BYTES];
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+		return vector;
+	}
+
+	private Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("marky.cache.lookup")
+			.description("2단 캐시 조회 결과")
+			.tag("cache", EMBEDDING_CACHE)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -8,41 +8,39 @@ import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.support.ToolCallbacks;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.groom.marky.service.advisor.ActivityDetailAdvisor;
 import com.groom.marky.service.advisor.LocationResolverAdvisor;
 import com.groom.marky.service.advisor.MultiPurposeActionAdvisor;
+import com.groom.marky.service.advisor.SemanticCacheAdvisor;
 import com.groom.marky.service.advisor.SystemRoleAdvisor;
 import com.groom.marky.service.advisor.UserIntentAdvisor;
 import com.groom.marky.service.tool.ActivitySearchTool;
 import com.groom.marky.service.tool.CafeSearchTool;
 import com.groom.marky.service.tool.ParkingLotSearchTool;
 import com.groom.marky.service.tool.RestaurantSearchTool;
-import com.groom.marky.service.tool.SimilaritySearchTool;
 import com.groom.marky.service.tool.SubwayRouteSearchTool;
 
-import lombok.RequiredArgsConstructor;
-
+/**
+ * 채팅 파이프라인(툴 콜백 + 어드바이저 체인)을 시작 시 한 번만 구성해 두고 모든 요청이 공유한다.
+ * 요청마다 달라지는 대화 id 는 메모리 어드바이저 파라미터로만 넘기므로,
+ * 요청 처리 중에는 @Tool 리플렉션이나 옵션 / 어드바이저 목록 생성이 일어나지 않는다.
+ */
 @Component
-@RequiredArgsConstructor
 public class ChatClientFactory {
 
-	private final ChatModel model;
-	private final ChatMemory chatMemory;
-	private final SystemRoleAdvisor systemRoleAdvisor;
-	private final UserIntentAdvisor userIntentAdvisor;
-	private final LocationResolverAdvisor locationResolverAdvisor;
-	private final ActivityDetailAdvisor activityDetailAdvisor;
-	private final ParkingLotSearchTool redisGeoSearchTool;
-	private final SubwayRouteSearchTool subwayRouteSearchTool;
-//	private final SimilaritySearchTool placeVectorSearchTool;
-	private final ActivitySearchTool activitySearchTool;
-	private final RestaurantSearchTool restaurantSearchTool;
-	private final MultiPurposeActionAdvisor multiPurposeActionAdvisor;
-	private final CafeSearchTool cafeSearchTool;
+	private final ChatClient chatClient;
 
-	public ChatClient create(String conversationId) {
+	@Autowired
+	public ChatClientFactory(ChatModel model, ChatMemory chatMemory,
+		SystemRoleAdvisor systemRoleAdvisor, UserIntentAdvisor userIntentAdvisor,
+		LocationResolverAdvisor locationResolverAdvisor, ActivityDetailAdvisor activityDetailAdvisor,
+		SemanticCacheAdvisor semanticCacheAdvisor, MultiPurposeActionAdvisor multiPurposeActionAdvisor,
+		ParkingLotSearchTool redisGeoSearchTool, SubwayRouteSearchTool subwayRouteSearchTool,
+		ActivitySearchTool activitySearchTool, RestaurantSearchTool restaurantSearchTool,
+		CafeSearchTool cafeSearchTool) {
 
 		ToolCallingChatOptions chatOptions = ToolCallingChatOptions.builder()
 			.toolCallbacks(ToolCallbacks.from(
@@ -55,18 +53,26 @@ public class ChatClientFactory {
 			.internalToolExecutionEnabled(true)
 			.build();
 
-		return ChatClient.builder(model)
+		this.chatClient = ChatClient.builder(model)
 			.defaultOptions(chatOptions)
 			.defaultAdvisors(List.of(
-				MessageChatMemoryAdvisor.builder(chatMemory)
-					.conversationId(conversationId)
-					.build(),
+				// 대화 id 는 요청마다 CONVERSATION_ID 파라미터로 지정
+				MessageChatMemoryAdvisor.builder(chatMemory).build(),
 				systemRoleAdvisor,
 				userIntentAdvisor,
 				locationResolverAdvisor,
+				semanticCacheAdvisor,
 				multiPurposeActionAdvisor,
 				activityDetailAdvisor
 			))
 			.build();
 	}
+
+	/**
+	 * 공유 파이프라인으로 새 요청을 시작한다. 반환된 spec 은 요청마다 새로 만들어지므로 다른 요청과 상태를 공유하지 않는다.
+	 */
+	public ChatClient.ChatClientRequestSpec prompt(String conversationId) {
+		return chatClient.prompt()
+			.advisors(advisor -> advisor.param(ChatMemory.CONVERSATION_ID, conversationId));
+	}
 }
@@ -40,6 +40,7 @@ public class ConversationService {
 		Conversation conversation = Conversation.builder()
 			.conversationId(request.getConversationId())
 			.user(user)
+			.title(request.getTitle())
 			.build();
 
 		Conversation savedConversation = conversationRepository.save(conversation);
@@ -51,9 +52,7 @@ public class ConversationService {
 	}
 
 	@Transactional
-	public void setTitle(CreateConversationResponse conversationResponse, String title) {
-		String conversationId = conversationResponse.getConversationId();
-
+	public void setTitle(String conversationId, String title) {
 		Conversation conversation = conversationRepository.findConversationByConversationId(conversationId).orElseThrow(
 			() -> new EntityNotFoundException("해당되는 conversation 이 존재하지 않습니다.")
 		);
@@ -0,0 +1,101 @@
+package com.groom.marky.service;
+
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대화 제목 생성.
+ * 대화를 만들 때는 첫 메시지를 정리한 임시 제목을 바로 넣고, 모델이 만든 제목은 응답을 보낸 뒤 백그라운드에서 덮어쓴다.
+ */
+@Slf4j
+@Service
+public class ConversationTitleService {
+
+	private static final int PROVISIONAL_TITLE_LENGTH = 30;
+	private static final String DEFAULT_TITLE = "새 대화";
+	private static final String TITLE_PROMPT = "다음 사용자의 입력을 바탕으로, 이 대화의 제목을 한 문장으로 생성해줘.";
+
+	private final ConversationService conversationService;
+	private final ChatClient titleClient;
+	private final ExecutorService chatExecutor;
+
+	@Autowired
+	public ConversationTitleService(ConversationService conversationService, ChatModel chatModel,
+		ExecutorService chatExecutor) {
+		this.conversationService = conversationService;
+		this.titleClient = ChatClient.builder(chatModel).build();
+		this.chatExecutor = chatExecutor;
+	}
+
+	/**
+	 * 첫 메시지의 공백 / 제어 문자를 정리하고 앞부분만 남긴 임시 제목
+	 */
+	public static String provisionalTitle(String message) {
+		if (message == null || message.isBlank()) {
+			return DEFAULT_TITLE;
+		}
+
+		StringBuilder sb = new StringBuilder(PROVISIONAL_TITLE_LENGTH + 1);
+		int count = 0;
+		boolean space = false;
+		for (int i = 0; i < message.length() && count <= PROVISIONAL_TITLE_LENGTH; ) {
+			int codePoint = message.codePointAt(i);
+			i += Character.charCount(codePoint);
+
+			if (Character.isWhitespace(codePoint) || Character.isISOControl(codePoint)) {
+				space = sb.length() > 0;
+				continue;
+			}
+			if (space) {
+				sb.append(' ');
+				count++;
+				space = false;
+			}
+			sb.appendCodePoint(codePoint);
+			count++;
+		}
+
+		// 제어 문자만 있던 메시지
+		if (count == 0) {
+			return DEFAULT_TITLE;
+		}
+		if (count <= PROVISIONAL_TITLE_LENGTH) {
+			return sb.toString();
+		}
+		// 한 글자 더 읽었으면 잘린 것
+		int end = sb.offsetByCodePoints(0, PROVISIONAL_TITLE_LENGTH);
+		return sb.substring(0, end).stripTrailing() + "…";
+	}
+
+	/**
+	 * 모델로 제목을 만들어 저장. 실패하면 임시 제목을 그대로 둔다.
+	 */
+	public void generateAsync(String conversationId, String message) {
+		chatExecutor.execute(() -> {
+			try {
+				long start = System.currentTimeMillis();
+				String title = titleClient.prompt()
+					.system(TITLE_PROMPT)
+					.user(message)
+					.call()
+					.content();
+
+				if (title == null || title.isBlank()) {
+					return;
+				}
+				conversationService.setTitle(conversationId, title.strip());
+				log.info("[ConversationTitleService] 제목 생성 완료 : {}, {} ms", conversationId,
+					System.currentTimeMillis() - start);
+			} catch (Exception e) {
+				log.warn("[ConversationTitleService] 제목 생성 실패, 임시 제목 유지 : {}, message : {}", conversationId,
+					e.getMessage());
+			}
+		});
+	}
+}
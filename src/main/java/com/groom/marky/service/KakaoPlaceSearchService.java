@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.groom.marky.common.QuadtreeSubdivider;
 import com.groom.marky.domain.request.Rectangle;
 import com.groom.marky.common.constant.KakaoMapCategoryGroupCode;
 import com.groom.marky.domain.response.GooglePlacesApiResponse;
@@ -31,6 +32,10 @@ public interface KakaoPlaceSearchService {
 
 	Map<Rectangle, Integer> getRectsMap(List<Rectangle> rects, KakaoMapCategoryGroupCode code);
 
+	// 이전 분할 결과 기준으로 장소 수가 바뀐 노드만 다시 분할
+	QuadtreeSubdivider.Tree refreshRects(List<Rectangle> rects, KakaoMapCategoryGroupCode code,
+		Map<Rectangle, Integer> previous);
+
     GooglePlacesApiResponse getRects(List<Rectangle> boxes, String keyword);
 
 	Map<String, Double> searchLocation(String location, String category);
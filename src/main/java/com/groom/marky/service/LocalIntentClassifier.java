@@ -0,0 +1,271 @@
+package com.groom.marky.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.groom.marky.common.KeywordTrie;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * QueryUnderstandingService 프롬프트의 intent / activity_detail 동의어 표를 로컬 트라이로 옮긴 분류기.
+ * 키워드가 하나의 의도로만 매칭되면 LLM 호출 없이 intent, activity_detail 을 결정하고,
+ * 모호하거나 매칭이 없으면 LLM 으로 넘긴다.
+ * 로컬 결과는 LLM 이 다시 확인하지 않으므로, 문맥 없이 단정할 수 있는 표현만 등록한다.
+ */
+@Slf4j
+@Service
+public class LocalIntentClassifier {
+
+	public static final String CAFE = "카페";
+	public static final String RESTAURANT = "식당";
+	public static final String ROUTE = "경로";
+	public static final String PARKING = "주차장";
+	public static final String ACTIVITY = "액티비티";
+
+	private static final double CONFIDENCE_THRESHOLD = 0.8;
+
+	// 키워드를 지우고 남은 토큰 중 location 판단에서 제외할 요청 표현
+	private static final Set<String> FILLER_WORDS = Set.of(
+		"추천", "추천해줘", "추천해주세요", "추천좀", "알려줘", "알려주세요", "찾아줘", "찾아주세요",
+		"어디", "어디야", "어디있어", "좀", "해줘", "근처", "주변", "근처에", "주변에", "가고", "싶어", "가고싶어"
+	);
+
+	// 명사 키워드 바로 뒤에 붙어도 같은 단어로 보는 조사. 그 외의 글자가 이어지면 다른 단어로 본다 (스파 / 스파게티)
+	private static final Set<String> PARTICLES = Set.of(
+		"은", "는", "이", "가", "을", "를", "의", "에", "에서", "으로", "로", "도", "만", "좀",
+		"과", "와", "랑", "이랑", "하고", "이나", "나", "들"
+	);
+
+	// 최근 대화를 참고해야 하는 지시어. 이런 표현이 남으면 로컬에서 location 을 확정하지 않음
+	private static final Set<String> VAGUE_WORDS = Set.of(
+		"그", "이", "저", "거기", "여기", "저기", "그곳", "이곳", "그쪽", "이쪽"
+	);
+
+	private final KeywordTrie<Keyword> trie = new KeywordTrie<>();
+	private final Counter hitCounter;
+	private final Counter partialCounter;
+	private final Counter missCounter;
+
+	@Autowired
+	public LocalIntentClassifier(MeterRegistry meterRegistry) {
+		registerKeywords();
+
+		this.hitCounter = Counter.builder("marky.intent.local")
+			.description("로컬 분류기로 LLM 호출 없이 분류된 요청 수")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.partialCounter = Counter.builder("marky.intent.local")
+			.description("로컬 분류기로 intent 만 분류된 요청 수")
+			.tag("result", "partial")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("marky.intent.local")
+			.description("로컬 분류기가 분류하지 못해 LLM 으로 넘긴 요청 수")
+			.tag("result", "miss")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 분류 카운터는 올리지 않는다. 한 턴에서 여러 곳(사전 분석, 어드바이저)이 같은 메시지를 분류하므로
+	 * 턴마다 처음 분류하는 쪽(QueryUnderstandingService)이 record 로 한 번만 집계한다.
+	 */
+	public Result classify(String message) {
+		if (message == null || message.isBlank()) {
+			return Result.NONE;
+		}
+
+		List<KeywordTrie.Match<Keyword>> matches = findAll(message);
+
+		if (matches.isEmpty()) {
+			return Result.NONE;
+		}
+
+		// intent 별 매칭 수로 신뢰도 계산
+		Map<String, Integer> intentCounts = new HashMap<>();
+		Set<String> activityDetails = new LinkedHashSet<>();
+		for (KeywordTrie.Match<Keyword> match : matches) {
+			intentCounts.merge(match.value().intent(), 1, Integer::sum);
+			if (match.value().activityDetail() != null) {
+				activityDetails.add(match.value().activityDetail());
+			}
+		}
+
+		Map.Entry<String, Integer> top = intentCounts.entrySet().stream()
+			.max(Map.Entry.comparingByValue())
+			.orElseThrow();
+		double confidence = (double) top.getValue() / matches.size();
+
+		if (confidence < CONFIDENCE_THRESHOLD) {
+			log.info("[LocalIntentClassifier] 모호한 입력 → LLM 위임. message : {}, intents : {}", message, intentCounts);
+			return new Result(null, null, null, confidence);
+		}
+
+		String intent = top.getKey();
+		String activityDetail = ACTIVITY.equals(intent) && activityDetails.size() == 1
+			? activityDetails.iterator().next()
+			: null;
+		String location = ROUTE.equals(intent) ? null : residualLocation(message, matches);
+
+		Result result = new Result(intent, activityDetail, location, confidence);
+		log.info("[LocalIntentClassifier] message : {}, result : {}", message, result);
+		return result;
+	}
+
+	public void record(Result result) {
+		if (result.isComplete()) {
+			hitCounter.increment();
+		} else if (result.hasIntent()) {
+			partialCounter.increment();
+		} else {
+			missCounter.increment();
+		}
+	}
+
+	/**
+	 * intent 별 키워드 매칭 수. 분류 카운터는 올리지 않는다.
+	 * 복합 질문 판단(LocalQuestionSplitter)에서 서로 다른 의도가 몇 개 섞였는지 볼 때 사용한다.
+	 */
+	public Map<String, Integer> countIntents(String message) {
+		if (message == null || message.isBlank()) {
+			return Map.of();
+		}
+
+		Map<String, Integer> intentCounts = new HashMap<>();
+		for (KeywordTrie.Match<Keyword> match : findAll(message)) {
+			intentCounts.merge(match.value().intent(), 1, Integer::sum);
+		}
+		return intentCounts;
+	}
+
+	/**
+	 * 단어 경계에서 끝나는 매칭만 남긴다. 명사 키워드 뒤에 조사가 붙으면 조사까지 매칭 범위에 포함한다.
+	 */
+	private List<KeywordTrie.Match<Keyword>> findAll(String message) {
+		String normalized = message.toLowerCase(Locale.ROOT);
+		List<KeywordTrie.Match<Keyword>> matches = new ArrayList<>();
+		for (KeywordTrie.Match<Keyword> match : trie.findAll(normalized)) {
+			if (match.value().phrase()) {
+				matches.add(match);
+				continue;
+			}
+
+			int wordEnd = match.end();
+			while (wordEnd < normalized.length() && Character.isLetterOrDigit(normalized.charAt(wordEnd))) {
+				wordEnd++;
+			}
+			String suffix = normalized.substring(match.end(), wordEnd);
+			if (suffix.isEmpty() || PARTICLES.contains(suffix)) {
+				matches.add(new KeywordTrie.Match<>(match.keyword(), match.value(), match.start(), wordEnd));
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * 매칭된 키워드와 요청 표현을 지우고 남은 토큰이 하나뿐이면 location 으로 본다.
+	 * 분위기 표현 등이 섞여 토큰이 여러 개 남으면 null 을 반환해 LLM 이 추출하도록 한다.
+	 */
+	private String residualLocation(String message, List<KeywordTrie.Match<Keyword>> matches) {
+		char[] chars = message.toCharArray();
+		for (KeywordTrie.Match<Keyword> match : matches) {
+			for (int i = match.start(); i < match.end(); i++) {
+				chars[i] = ' ';
+			}
+		}
+
+		String location = null;
+		for (String token : new String(chars).split("\\s+")) {
+			String cleaned = token.replaceAll("[?!.,~]", "");
+			if (cleaned.endsWith("에서")) {
+				cleaned = cleaned.substring(0, cleaned.length() - 2);
+			}
+			if (cleaned.endsWith("근처") || cleaned.endsWith("주변")) {
+				cleaned = cleaned.substring(0, cleaned.length() - 2);
+			}
+			if (cleaned.isBlank() || FILLER_WORDS.contains(cleaned)) {
+				continue;
+			}
+			if (location != null || VAGUE_WORDS.contains(cleaned) || cleaned.length() < 2) {
+				return null;
+			}
+			location = cleaned;
+		}
+		return location;
+	}
+
+	private void registerKeywords() {
+		add(CAFE, null, "카페", "커피", "디저트");
+		add(RESTAURANT, null, "식당", "맛집", "음식", "밥집");
+		// "어떻게 가는지" 처럼 어미가 이어지는 표현이라 단어 경계를 보지 않음
+		addPhrase(ROUTE, "어떻게 가", "가는 방법", "길 안내");
+		add(ROUTE, null, "경로");
+		add(PARKING, null, "주차", "주차장");
+		add(ACTIVITY, null, "놀거리", "할거리", "할거");
+
+		add(ACTIVITY, "클라이밍", "클라이밍", "암벽등반", "볼더링");
+		add(ACTIVITY, "스크린야구", "스크린야구", "배팅센터");
+		add(ACTIVITY, "스크린골프", "스크린골프", "골프연습장");
+		add(ACTIVITY, "보드게임카페", "보드게임카페", "보드카페");
+		add(ACTIVITY, "만화카페", "만화카페", "만화방", "웹툰방");
+		add(ACTIVITY, "방탈출", "방탈출", "이스케이프룸");
+		add(ACTIVITY, "VR체험관", "VR체험관", "가상현실", "VR게임");
+		add(ACTIVITY, "PC방", "PC방", "피시방", "겜방");
+		add(ACTIVITY, "볼링장", "볼링장", "볼링");
+		add(ACTIVITY, "당구장", "당구장", "포켓볼", "빌리어드");
+		add(ACTIVITY, "아쿠아리움", "아쿠아리움", "수족관");
+		add(ACTIVITY, "찜질방", "찜질방", "사우나", "스파", "목욕탕");
+		// "시장" 단독은 서울시장 등 다른 뜻이 많아 LLM 에 맡김
+		add(ACTIVITY, "시장", "전통시장", "장터");
+	}
+
+	private void add(String intent, String activityDetail, String... keywords) {
+		for (String keyword : keywords) {
+			trie.add(keyword.toLowerCase(Locale.ROOT), new Keyword(intent, activityDetail, false));
+		}
+	}
+
+	private void addPhrase(String intent, String... phrases) {
+		for (String phrase : phrases) {
+			trie.add(phrase, new Keyword(intent, null, true));
+		}
+	}
+
+	/**
+	 * @param phrase 어미가 이어질 수 있는 구 표현이면 true, 단어 경계 검사를 하지 않는다
+	 */
+	private record Keyword(String intent, String activityDetail, boolean phrase) {
+	}
+
+	/**
+	 * @param intent         분류된 intent, 모호하거나 매칭이 없으면 null
+	 * @param activityDetail 액티비티 세부 분류, 확정할 수 없으면 null
+	 * @param location       키워드 외에 남은 장소명, 확정할 수 없으면 null
+	 * @param confidence     가장 많이 매칭된 intent 의 비율
+	 */
+	public record Result(String intent, String activityDetail, String location, double confidence) {
+
+		public static final Result NONE = new Result(null, null, null, 0);
+
+		public boolean hasIntent() {
+			return intent != null;
+		}
+
+		// intent 와 location 이 모두 확정되어 LLM 추출이 필요 없는 경우
+		public boolean isComplete() {
+			if (intent == null || location == null) {
+				return false;
+			}
+			return !ACTIVITY.equals(intent) || activityDetail != null;
+		}
+	}
+}
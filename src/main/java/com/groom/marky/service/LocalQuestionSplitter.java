@@ -0,0 +1,106 @@
+package com.groom.marky.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메시지가 여러 요청을 이어 붙인 복합 질문인지 로컬에서 판단한다.
+ * 대부분의 요청은 "홍대 카페 추천" 같은 단일 질문이므로, 복합 질문으로 보일 때만 LLM 에 질문 분리를 맡긴다.
+ *
+ * 판단 기준
+ * - intent 키워드가 둘 이상 매칭되면 같은 intent 라도 복합 질문 ("홍대 카페랑 맛집", "홍대 카페랑 강남 카페")
+ * - "그리고", "갔다가", "~고 나서", "끝나고", "다음에" 처럼 앞뒤 일정을 잇는 표현이 있으면 복합 질문
+ * - "먹고", "하고" 처럼 "~고" 로 끝나는 어절은 형용사 나열("조용하고 넓은 카페")에도 쓰이므로,
+ *   intent 키워드가 정확히 하나일 때는 단일 질문으로 본다. ("~고 싶어" 는 연결 표현이 아님)
+ */
+@Slf4j
+@Service
+public class LocalQuestionSplitter {
+
+	// 그 자체로 두 일정을 잇는 어절
+	private static final Set<String> CONJUNCTIONS = Set.of(
+		"그리고", "그다음", "그다음에", "그다음엔", "그러고", "이후", "이후에", "이후엔", "끝나고", "끝나면", "나서", "나서는"
+	);
+
+	// 갔다가, 먹었다가, 들렀다가, 먹고나서 ... ("바다가" 같은 명사 + 조사는 제외)
+	private static final Pattern TRANSITION = Pattern.compile(".*((갔|왔|었|았|였|했|렀|봤|먹|보|하|놀|가)다가|고나서)$");
+
+	// "간 다음에", "먹은 후에", "본 뒤" 처럼 관형형(ㄴ 받침) 어절 뒤에 오는 순서 표현
+	private static final Pattern SEQUENCE = Pattern.compile("^(다음|후|뒤)(에|엔|에는)?$");
+
+	// "~고" 뒤에 와도 연결 표현이 아닌 보조 용언 ("가고 싶어", "먹고 있어", "가고 싶은")
+	private static final Pattern AUXILIARY = Pattern.compile("^(싶|있|계|좋).*");
+
+	private final LocalIntentClassifier localIntentClassifier;
+	private final Counter singleCounter;
+	private final Counter compoundCounter;
+
+	@Autowired
+	public LocalQuestionSplitter(LocalIntentClassifier localIntentClassifier, MeterRegistry meterRegistry) {
+		this.localIntentClassifier = localIntentClassifier;
+
+		this.singleCounter = Counter.builder("marky.split.local")
+			.description("단일 질문으로 판단되어 LLM 질문 분리를 생략한 요청 수")
+			.tag("result", "single")
+			.register(meterRegistry);
+		this.compoundCounter = Counter.builder("marky.split.local")
+			.description("복합 질문으로 판단되어 LLM 으로 질문 분리를 넘긴 요청 수")
+			.tag("result", "compound")
+			.register(meterRegistry);
+	}
+
+	public boolean isCompound(String message) {
+		boolean compound = detect(message);
+		if (compound) {
+			compoundCounter.increment();
+		} else {
+			singleCounter.increment();
+		}
+		log.info("[LocalQuestionSplitter] message : {}, compound : {}", message, compound);
+		return compound;
+	}
+
+	private boolean detect(String message) {
+		if (message == null || message.isBlank()) {
+			return false;
+		}
+
+		// 같은 intent 가 두 번 나오면 장소별로 나눠야 하는 요청일 수 있으므로 intent 종류가 아니라 매칭 수로 판단
+		Map<String, Integer> intentCounts = localIntentClassifier.countIntents(message);
+		int keywordCount = intentCounts.values().stream().mapToInt(Integer::intValue).sum();
+		if (keywordCount >= 2) {
+			return true;
+		}
+
+		String[] tokens = message.trim().replaceAll("[?!.,~]", " ").split("\\s+");
+		boolean clauseEnding = false;
+		for (int i = 0; i < tokens.length; i++) {
+			String token = tokens[i];
+			if (CONJUNCTIONS.contains(token) || TRANSITION.matcher(token).matches()
+				|| (i > 0 && SEQUENCE.matcher(token).matches() && endsWithNieun(tokens[i - 1]))) {
+				return true;
+			}
+			// 마지막 어절의 "~고" 는 "가자고", "어떻고" 처럼 문장 끝이므로 제외
+			if (token.length() >= 2 && token.endsWith("고") && i + 1 < tokens.length
+				&& !AUXILIARY.matcher(tokens[i + 1]).matches()) {
+				clauseEnding = true;
+			}
+		}
+
+		return clauseEnding && keywordCount == 0;
+	}
+
+	// 마지막 음절의 받침이 ㄴ 인지 (간, 먹은, 본, 한)
+	private static boolean endsWithNieun(String token) {
+		char last = token.charAt(token.length() - 1);
+		return last >= '가' && last <= '힣' && (last - '가') % 28 == 4;
+	}
+}
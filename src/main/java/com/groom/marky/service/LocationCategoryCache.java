@@ -0,0 +1,117 @@
+package com.groom.marky.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.groom.marky.common.TwoTierCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * location 문자열 → KakaoMapCategoryGroupCode 분류 결과 메모.
+ * 같은 location 의 분류 결과는 바뀌지 않으므로 LLM 분류 전에 먼저 조회한다.
+ * 매핑할 수 없다는 결과("null")는 LLM 의 일시적인 오분류일 수 있어 짧은 TTL 로 보관한다.
+ * 자주 쓰이는 location 은 기동 후 시드 파일(location,code)로 비어 있는 항목만 채운다.
+ */
+@Slf4j
+@Service
+public class LocationCategoryCache {
+
+	private static final String CATEGORY_CODE_CACHE = "category-code";
+	// LLM 이 매핑할 수 없는 location 에 돌려주는 값
+	private static final String NO_CATEGORY = "null";
+
+	private final TwoTierCache<String> cache;
+	private final Resource seed;
+
+	@Autowired
+	public LocationCategoryCache(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+		@Value("${cache.category-code.maximum-size}") long maximumSize,
+		@Value("${cache.category-code.ttl}") long ttl,
+		@Value("${cache.category-code.negative-ttl}") long negativeTtl,
+		@Value("${cache.category-code.seed}") Resource seed) {
+
+		// LLM 호출 실패는 캐싱하지 않고, 매핑할 수 없다는 결과만 negative TTL 로 캐싱
+		this.cache = new TwoTierCache<>(CATEGORY_CODE_CACHE, redisTemplate, meterRegistry,
+			maximumSize, Duration.ofMillis(ttl), Duration.ofMillis(negativeTtl),
+			Function.identity(), Function.identity());
+		this.seed = seed;
+	}
+
+	/**
+	 * @return 분류된 카테고리 코드, 매핑할 수 없는 location 은 "null", 캐시에 없으면 null
+	 */
+	public String get(String location) {
+		Optional<String> cached = cache.lookup(TwoTierCache.normalizeKey(location));
+		if (cached == null) {
+			return null;
+		}
+		return cached.orElse(NO_CATEGORY);
+	}
+
+	public void put(String location, String categoryCode) {
+		if (location == null || location.isBlank() || categoryCode == null || categoryCode.isBlank()) {
+			return;
+		}
+		cache.put(TwoTierCache.normalizeKey(location), toCacheValue(categoryCode));
+	}
+
+	/**
+	 * 런타임에 학습된 값과 남은 TTL 을 덮어쓰지 않도록 Redis 에 없는 location 만 채운다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (seed == null || !seed.exists()) {
+			log.info("[LocationCategoryCache] 시드 파일 없음. warm-up 생략");
+			return;
+		}
+
+		int count = 0;
+		int stored = 0;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(seed.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+
+				String[] columns = line.split(",");
+				if (columns.length != 2) {
+					log.warn("[LocationCategoryCache] 잘못된 시드 라인 : {}", line);
+					continue;
+				}
+				String location = columns[0].trim();
+				String categoryCode = columns[1].trim();
+				if (location.isEmpty() || categoryCode.isEmpty()) {
+					continue;
+				}
+				count++;
+				if (cache.putIfAbsent(TwoTierCache.normalizeKey(location), toCacheValue(categoryCode))) {
+					stored++;
+				}
+			}
+		} catch (IOException e) {
+			log.warn("[LocationCategoryCache] 시드 파일 읽기 실패 : {}", e.getMessage());
+		}
+		log.info("[LocationCategoryCache] warm-up 완료 : 시드 {} 건 중 {} 건 저장", count, stored);
+	}
+
+	private static String toCacheValue(String categoryCode) {
+		return NO_CATEGORY.equals(categoryCode) ? null : categoryCode;
+	}
+}
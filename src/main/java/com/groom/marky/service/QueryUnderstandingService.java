@@ -0,0 +1,159 @@
+package com.groom.marky.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.groom.marky.domain.response.QueryUnderstanding;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 질문 분리, intent/location/mood 추출, 카테고리 코드 분류, activity_detail 분류를
+ * 한 번의 구조화된 LLM 호출로 처리한다.
+ * 결과는 어드바이저 파라미터로 전달되어 각 어드바이저의 개별 LLM 호출을 대신한다.
+ * 질문 분리는 LocalQuestionSplitter 가 복합 질문으로 판단한 경우에만 LLM 에 맡긴다.
+ */
+@Slf4j
+@Service
+public class QueryUnderstandingService {
+
+	private static final int HISTORY_SIZE = 10;
+
+	private static final String SPLIT_SECTION = """
+		너는 사용자의 메시지를 분석해서, 질문 분리와 정보 추출을 한 번에 수행하는 역할이야.
+		툴 콜링은 하지 마. 설명 없이 지정된 JSON 형식만 출력해.
+
+		[1. 질문 분리]
+		- 사용자의 복합 질문을 의미 단위로 "분리"해서 questions 배열의 각 항목 question 에 넣어.
+		- 문장의 의미, 표현 방식, 말투를 절대로 바꾸지 마. 띄어쓰기만 보정하는 건 괜찮아.
+		- 분리할 필요가 없으면 원문 그대로 항목 하나만 만들어.
+		- 예: "강남역에서 파스타 먹고 영화 보고 싶어" → "강남역에서 파스타 먹고 싶어", "강남역에서 영화 보고 싶어"
+		- 예: "홍대에서 분위기 좋은 카페 갔다가, 저녁엔 신촌에서 조용한 식당 가고 싶어"
+		  → "홍대에서 분위기 좋은 카페 가고 싶어", "저녁엔 신촌에서 조용한 식당 가고 싶어"
+
+		""";
+
+	// 로컬에서 단일 질문으로 판단된 경우. 분리 지시와 예시를 빼고 추출만 맡김
+	private static final String SINGLE_SECTION = """
+		너는 사용자의 메시지를 분석해서 정보를 추출하는 역할이야.
+		툴 콜링은 하지 마. 설명 없이 지정된 JSON 형식만 출력해.
+
+		[1. 질문]
+		- 질문을 분리하지 말고, 원문 그대로 questions 배열에 항목 하나만 만들어.
+
+		""";
+
+	private static final String EXTRACTION_SECTION = """
+		[2. 질문별 intent 분류] 아래 5가지 중 하나
+		- "카페", "커피", "디저트" → "카페"
+		- "식당", "맛집", "음식", "밥집" → "식당"
+		- "어떻게 가", "가는 방법", "길 안내", "도착", "경로" → "경로"
+		- "주차", "주차장" → "주차장"
+		- 13가지 활동 키워드("클라이밍", "스크린야구", "스크린골프", "보드게임카페", "만화카페", "방탈출",
+		  "VR체험관", "PC방", "볼링장", "당구장", "아쿠아리움", "찜질방", "시장") 또는 "놀거리", "할거리", "할거" → "액티비티"
+		- 의도를 알 수 없으면 ""
+
+		[3. 질문별 추출 필드]
+		- location: 장소명 또는 지역명 (예: 강남역, 연남동, 마포구). "근처", "주변" 같은 모호한 단어는 쓰지 마.
+		- mood: 분위기, 선호 조건, 상황 (예: 조용한, 트렌디한, 공부하기 좋은)
+		  "스시맛집"처럼 구체적인 메뉴가 있으면 mood 는 "{메뉴}이(가) 맛있는", intent 는 "식당"
+		- intent 가 "경로"인 경우: location, mood 는 "", origin(출발지), destination(도착지),
+		  timeSlot(시간 표현), dayType(요일 표현)을 추출
+		- 현재 메시지에 정보가 부족하면 최근 대화 메시지를 참고해서 누락된 값을 추론해.
+		  근거 없이 억지로 만들지 말고, 명확하지 않은 값은 ""로 둬.
+
+		[4. category_code] location 을 아래 KakaoMapCategoryGroupCode 중 하나로 매핑
+		MT1 대형마트, CS2 편의점, PS3 어린이집/유치원, SC4 학교, AC5 학원, PK6 주차장, OL7 주유소/충전소,
+		SW8 지하철역, BK9 은행, CT1 문화시설, AG2 중개업소, PO3 공공기관, AT4 관광명소, AD5 숙박,
+		FD6 음식점, CE7 카페, HP8 병원, PM9 약국
+		- 지역명/행정구 명칭(예: "영등포", "여의도", "강남")은 반드시 "PO3"
+		- 예: "스타벅스" → CE7, "서울역" → SW8, "롯데마트" → MT1
+		- location 이 없거나 매핑할 수 없으면 ""
+
+		[5. activity_detail] intent 가 "액티비티"일 때만 아래 13개 중 하나, 아니면 ""
+		클라이밍(암벽등반, 볼더링), 스크린야구(배팅센터), 스크린골프(골프연습장), 보드게임카페(보드카페),
+		만화카페(만화방, 웹툰방), 방탈출(이스케이프룸), VR체험관(가상현실, VR게임), PC방(피시방, 겜방),
+		볼링장(볼링), 당구장(포켓볼, 빌리어드), 아쿠아리움(수족관), 찜질방(사우나, 스파, 목욕탕), 시장(전통시장, 장터)
+
+		모든 필드를 포함하고, 값이 없으면 ""로 출력해.
+		""";
+
+	private static final String SPLIT_PROMPT = SPLIT_SECTION + EXTRACTION_SECTION;
+	private static final String SINGLE_PROMPT = SINGLE_SECTION + EXTRACTION_SECTION;
+
+	private final ChatClient chatClient;
+	private final ChatMemory chatMemory;
+	private final LocalIntentClassifier localIntentClassifier;
+	private final LocalQuestionSplitter localQuestionSplitter;
+
+	@Autowired
+	public QueryUnderstandingService(ChatModel chatModel, ChatMemory chatMemory,
+		LocalIntentClassifier localIntentClassifier, LocalQuestionSplitter localQuestionSplitter) {
+		this.chatClient = ChatClient.builder(chatModel).build();
+		this.chatMemory = chatMemory;
+		this.localIntentClassifier = localIntentClassifier;
+		this.localQuestionSplitter = localQuestionSplitter;
+	}
+
+	public List<QueryUnderstanding.Question> understand(String conversationId, String message) {
+
+		// 연결 표현이나 서로 다른 의도 키워드가 없는 단일 질문은 LLM 에 분리를 맡기지 않음
+		boolean compound = localQuestionSplitter.isCompound(message);
+
+		// "홍대 카페", "강남 볼링장" 처럼 키워드 사전만으로 확정되는 단일 질문은 LLM 호출 생략
+		if (!compound) {
+			LocalIntentClassifier.Result local = localIntentClassifier.classify(message);
+			// 이후 어드바이저의 재분류는 집계하지 않으므로 턴마다 한 번만 기록됨
+			localIntentClassifier.record(local);
+			if (local.isComplete()) {
+				log.info("[QueryUnderstandingService] 로컬 분류 결과 사용 : {}", local);
+				return List.of(new QueryUnderstanding.Question(
+					message, local.intent(), local.location(), "", "", "", "", "", null, local.activityDetail()));
+			}
+		}
+
+		// 최근 사용자 메시지 최대 10개만 포함
+		List<Message> history = chatMemory.get(conversationId).stream()
+			.filter(UserMessage.class::isInstance)
+			.toList();
+		List<Message> messages = new ArrayList<>(
+			history.subList(Math.max(0, history.size() - HISTORY_SIZE), history.size()));
+		messages.add(new UserMessage(message));
+
+		try {
+			double start = System.currentTimeMillis();
+			QueryUnderstanding understanding = chatClient.prompt()
+				.system(compound ? SPLIT_PROMPT : SINGLE_PROMPT)
+				.messages(messages)
+				.call()
+				.entity(QueryUnderstanding.class);
+			double end = System.currentTimeMillis();
+			log.info("[QueryUnderstandingService] 사전 분석 완료 : {} ms, 결과 : {}", end - start, understanding);
+
+			List<QueryUnderstanding.Question> questions = understanding == null || understanding.questions() == null
+				? List.of()
+				: understanding.questions().stream()
+					.filter(q -> q.question() != null && !q.question().isBlank())
+					.toList();
+
+			if (questions.isEmpty()) {
+				return List.of(QueryUnderstanding.Question.raw(message));
+			}
+			// 단일 질문은 LLM 이 문장을 바꾸거나 나누더라도 원문 그대로 하나만 사용
+			return compound ? questions : List.of(questions.get(0).withQuestion(message));
+
+		} catch (Exception e) {
+			// 사전 분석 실패 시, 원문 그대로 넘겨 각 어드바이저가 직접 추출하도록 함
+			log.warn("[QueryUnderstandingService] 사전 분석 실패: {}", e.getMessage());
+			return List.of(QueryUnderstanding.Question.raw(message));
+		}
+	}
+}
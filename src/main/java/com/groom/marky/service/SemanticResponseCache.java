@@ -0,0 +1,267 @@
+package com.groom.marky.service;
+
+import static com.groom.marky.common.constant.ContextKeys.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.marky.common.GeoHash;
+import com.groom.marky.common.RedisKeyParser;
+import com.groom.marky.domain.response.ChatResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 완성된 채팅 답변 캐시.
+ * (intent, activity_detail, 좌표의 geohash 격자) 를 버킷으로 묶고, 버킷 안에서는 mood 임베딩의 코사인 유사도로
+ * "강남역 근처 조용한 카페" / "강남역 조용한 카페 추천" 처럼 거의 같은 요청을 찾는다.
+ *
+ * 버킷은 Redis 해시(field : 정규화된 mood, value : 답변 JSON) 하나로 저장하고, mood 임베딩은 저장하지 않는다.
+ * 비교할 때마다 CachingEmbeddingModel 로 다시 구하지만 로컬 캐시에서 바로 나오므로 비용이 거의 없다.
+ */
+@Slf4j
+@Service
+public class SemanticResponseCache {
+
+	private static final String SEMANTIC_RESPONSE_CACHE = "semantic-response";
+
+	// 시간대 / 요일에 따라 답이 달라지는 경로 안내는 캐싱하지 않음
+	private static final String ROUTE = LocalIntentClassifier.ROUTE;
+
+	private final StringRedisTemplate redisTemplate;
+	private final EmbeddingModel embeddingModel;
+	private final ObjectMapper objectMapper;
+	private final Duration ttl;
+	private final double similarityThreshold;
+	private final int geohashPrecision;
+	private final int maxEntriesPerBucket;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter skipCounter;
+	private final Counter savedTokensCounter;
+	private final Timer savedLatencyTimer;
+
+	@Autowired
+	public SemanticResponseCache(StringRedisTemplate redisTemplate, EmbeddingModel embeddingModel,
+		ObjectMapper objectMapper, MeterRegistry meterRegistry,
+		@Value("${cache.semantic-response.ttl}") long ttl,
+		@Value("${cache.semantic-response.similarity-threshold}") double similarityThreshold,
+		@Value("${cache.semantic-response.geohash-precision}") int geohashPrecision,
+		@Value("${cache.semantic-response.max-entries-per-bucket}") int maxEntriesPerBucket) {
+		this.redisTemplate = redisTemplate;
+		this.embeddingModel = embeddingModel;
+		this.objectMapper = objectMapper;
+		this.ttl = Duration.ofMillis(ttl);
+		this.similarityThreshold = similarityThreshold;
+		this.geohashPrecision = geohashPrecision;
+		this.maxEntriesPerBucket = maxEntriesPerBucket;
+
+		this.hitCounter = lookupCounter(meterRegistry, "hit");
+		this.missCounter = lookupCounter(meterRegistry, "miss");
+		this.skipCounter = lookupCounter(meterRegistry, "skip");
+		this.savedTokensCounter = Counter.builder("marky.semantic-cache.saved.tokens")
+			.description("캐시된 답변으로 생략한 LLM 토큰 수")
+			.baseUnit("tokens")
+			.register(meterRegistry);
+		this.savedLatencyTimer = Timer.builder("marky.semantic-cache.saved.latency")
+			.description("캐시된 답변으로 생략한 응답 생성 시간")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 어드바이저 context 로 캐시 키를 만든다.
+	 * @return 캐싱 대상이 아니면(intent / 좌표 누락, 경로 안내, 세부 분류 없는 액티비티) null
+	 */
+	public Key key(Map<String, Object> context) {
+		String intent = (String) context.get(INTENT);
+		Object lat = context.get(LAT);
+		Object lon = context.get(LON);
+		String activityDetail = (String) context.get(ACTIVITY_DETAIL);
+
+		if (intent == null || intent.isBlank() || ROUTE.equals(intent)
+			|| !(lat instanceof Number latitude) || !(lon instanceof Number longitude)
+			|| (LocalIntentClassifier.ACTIVITY.equals(intent) && (activityDetail == null || activityDetail.isBlank()))) {
+			skipCounter.increment();
+			return null;
+		}
+
+		String bucket = intent + ":" + (activityDetail == null ? "" : activityDetail) + ":"
+			+ GeoHash.encode(latitude.doubleValue(), longitude.doubleValue(), geohashPrecision);
+		return new Key(RedisKeyParser.getCacheKey(SEMANTIC_RESPONSE_CACHE, bucket), normalizeMood((String) context.get(MOOD)));
+	}
+
+	/**
+	 * @return 유사도가 기준 이상이고 TTL 이내인 답변 중 가장 유사한 답변, 없으면 null
+	 */
+	public String get(Key key) {
+		Map<String, Entry> entries = read(key.bucket());
+
+		Entry best = entries.get(key.mood());
+		double bestSimilarity = 1;
+		// mood 가 정확히 같은 항목이 없을 때만 임베딩 비교. 임베딩 실패 시 캐시 미스로 처리
+		if (best == null && !entries.isEmpty() && !key.mood().isEmpty()) {
+			bestSimilarity = similarityThreshold;
+			try {
+				float[] target = embeddingModel.embed(key.mood());
+				for (Entry entry : entries.values()) {
+					double similarity = cosine(target, embeddingModel.embed(entry.mood()));
+					if (similarity >= bestSimilarity) {
+						best = entry;
+						bestSimilarity = similarity;
+					}
+				}
+			} catch (Exception e) {
+				log.warn("[SemanticResponseCache] mood 임베딩 실패 : {}", e.getMessage());
+				best = null;
+			}
+		}
+
+		if (best == null) {
+			missCounter.increment();
+			return null;
+		}
+
+		hitCounter.increment();
+		savedTokensCounter.increment(best.totalTokens());
+		savedLatencyTimer.record(best.latencyMillis(), TimeUnit.MILLISECONDS);
+		log.info("[SemanticResponseCache] 캐시 응답 사용 bucket : {}, mood : {} → {}, similarity : {}",
+			key.bucket(), key.mood(), best.mood(), bestSimilarity);
+		return best.answer();
+	}
+
+	/**
+	 * 추천 장소가 있는 정상 답변만 저장한다. 되묻는 답변이나 파싱할 수 없는 답변은 저장하지 않는다.
+	 */
+	public void put(Key key, String answer, int totalTokens, long latencyMillis) {
+		if (!isCacheable(answer)) {
+			return;
+		}
+
+		try {
+			Entry entry = new Entry(key.mood(), answer, totalTokens, latencyMillis, System.currentTimeMillis());
+			redisTemplate.opsForHash().put(key.bucket(), key.mood(), objectMapper.writeValueAsString(entry));
+			redisTemplate.expire(key.bucket(), ttl);
+			trim(key.bucket());
+		} catch (Exception e) {
+			log.warn("[SemanticResponseCache] 저장 실패 bucket : {}, message : {}", key.bucket(), e.getMessage());
+		}
+	}
+
+	private boolean isCacheable(String answer) {
+		if (answer == null || answer.isBlank()) {
+			return false;
+		}
+		try {
+			ChatResponse response = objectMapper.readValue(answer, ChatResponse.class);
+			return response.getPlaces() != null && !response.getPlaces().isEmpty();
+		} catch (JsonProcessingException e) {
+			return false;
+		}
+	}
+
+	// TTL 이 지난 항목은 제외하고 지움. Redis 장애 시 빈 버킷으로 보고 원래 파이프라인으로 진행
+	private Map<String, Entry> read(String bucket) {
+		Map<Object, Object> stored;
+		try {
+			stored = redisTemplate.opsForHash().entries(bucket);
+		} catch (Exception e) {
+			log.warn("[SemanticResponseCache] 조회 실패 bucket : {}, message : {}", bucket, e.getMessage());
+			return Map.of();
+		}
+
+		long expiredBefore = System.currentTimeMillis() - ttl.toMillis();
+		Map<String, Entry> entries = new HashMap<>();
+		List<Object> expired = new ArrayList<>();
+		stored.forEach((field, value) -> {
+			try {
+				Entry entry = objectMapper.readValue((String) value, Entry.class);
+				if (entry.createdAt() < expiredBefore) {
+					expired.add(field);
+				} else {
+					entries.put((String) field, entry);
+				}
+			} catch (JsonProcessingException e) {
+				expired.add(field);
+			}
+		});
+
+		if (!expired.isEmpty()) {
+			try {
+				redisTemplate.opsForHash().delete(bucket, expired.toArray());
+			} catch (Exception e) {
+				log.warn("[SemanticResponseCache] 만료 항목 삭제 실패 bucket : {}, message : {}", bucket, e.getMessage());
+			}
+		}
+		return entries;
+	}
+
+	// 버킷 하나에 항목이 너무 많아지면 오래된 것부터 제거
+	private void trim(String bucket) {
+		Long size = redisTemplate.opsForHash().size(bucket);
+		if (size == null || size <= maxEntriesPerBucket) {
+			return;
+		}
+
+		Object[] oldest = read(bucket).values().stream()
+			.sorted(Comparator.comparingLong(Entry::createdAt))
+			.limit(size - maxEntriesPerBucket)
+			.map(Entry::mood)
+			.toArray();
+		if (oldest.length > 0) {
+			redisTemplate.opsForHash().delete(bucket, oldest);
+		}
+	}
+
+	// 앞뒤 공백 제거, 연속 공백은 하나로, 소문자
+	private static String normalizeMood(String mood) {
+		return mood == null ? "" : mood.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	private static double cosine(float[] a, float[] b) {
+		if (a.length != b.length) {
+			return 0;
+		}
+		double dot = 0, normA = 0, normB = 0;
+		for (int i = 0; i < a.length; i++) {
+			dot += a[i] * b[i];
+			normA += a[i] * a[i];
+			normB += b[i] * b[i];
+		}
+		return normA == 0 || normB == 0 ? 0 : dot / Math.sqrt(normA * normB);
+	}
+
+	private Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("marky.semantic-cache.lookup")
+			.description("답변 캐시 조회 결과")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * @param bucket Redis 해시 키 (intent, activity_detail, geohash)
+	 * @param mood   정규화된 mood
+	 */
+	public record Key(String bucket, String mood) {
+	}
+
+	record Entry(String mood, String answer, int totalTokens, long latencyMillis, long createdAt) {
+	}
+}
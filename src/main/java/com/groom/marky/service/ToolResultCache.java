@@ -0,0 +1,163 @@
+package com.groom.marky.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.groom.marky.common.GeoHash;
+import com.groom.marky.common.RedisKeyParser;
+import com.groom.marky.common.TwoTierCache;
+import com.groom.marky.common.constant.GooglePlaceType;
+import com.groom.marky.repository.PlaceVectorRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 툴(searchCafe, searchRestaurant, searchParkingLots, searchActivity) 결과 캐시.
+ * (장소 유형, 좌표의 geohash 7자리 격자, mood, activity_detail) 별로 상위 문서의 id 와 distance 만 Redis 에 저장하고,
+ * 히트하면 반경 검색 / 유사도 계산 없이 vector_store 기본 키 조회로 문서를 다시 만든다.
+ *
+ * 무효화 : 장소 유형별 세대 값을 함께 저장하고, 적재 시 RedisService 가 세대를 올린다.
+ * 세대와 항목은 MGET 한 번으로 같이 읽어 세대가 다르면 미스로 처리한다. 이전 세대 항목은 TTL 로 사라진다.
+ */
+@Slf4j
+@Service
+public class ToolResultCache {
+
+	private static final String TOOL_RESULT_CACHE = "tool-result";
+	private static final int GEOHASH_PRECISION = 7;
+
+	private static final String GENERATION_DELIMITER = "|";
+	private static final String DOCUMENT_DELIMITER = ",";
+	private static final String SCORE_DELIMITER = ":";
+
+	private final StringRedisTemplate redisTemplate;
+	private final PlaceVectorRepository placeVectorRepository;
+	private final Duration ttl;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	@Autowired
+	public ToolResultCache(StringRedisTemplate redisTemplate, PlaceVectorRepository placeVectorRepository,
+		MeterRegistry meterRegistry, @Value("${cache.tool-result.ttl}") long ttl) {
+		this.redisTemplate = redisTemplate;
+		this.placeVectorRepository = placeVectorRepository;
+		this.ttl = Duration.ofMillis(ttl);
+
+		this.hitCounter = counter(meterRegistry, "hit");
+		this.missCounter = counter(meterRegistry, "miss");
+	}
+
+	/**
+	 * @param activityDetail 액티비티 세부 분류, 해당 없으면 null
+	 * @param search         캐시에 없을 때 실행할 원래 검색
+	 */
+	public List<Document> get(GooglePlaceType type, Double lat, Double lon, String mood, String activityDetail,
+		Supplier<List<Document>> search) {
+
+		if (lat == null || lon == null || mood == null) {
+			return search.get();
+		}
+
+		String generationKey = RedisKeyParser.getToolResultGenerationKey(type);
+		String key = RedisKeyParser.getCacheKey(TOOL_RESULT_CACHE, type.getGoogleType() + ":"
+			+ GeoHash.encode(lat, lon, GEOHASH_PRECISION) + ":"
+			+ TwoTierCache.normalizeKey(activityDetail) + ":"
+			+ TwoTierCache.normalizeKey(mood));
+
+		List<String> stored = read(generationKey, key);
+		String generation = stored == null || stored.get(0) == null ? "0" : stored.get(0);
+
+		if (stored != null && stored.get(1) != null) {
+			List<Document> cached = decode(stored.get(1), generation);
+			if (cached != null) {
+				hitCounter.increment();
+				log.info("[ToolResultCache] 캐시 결과 사용 key : {}, 문서 수 : {}", key, cached.size());
+				return cached;
+			}
+		}
+
+		missCounter.increment();
+		List<Document> result = search.get();
+		write(key, generation, result);
+		return result;
+	}
+
+	// Redis 장애 시 null, 원래 검색으로 진행
+	private List<String> read(String generationKey, String key) {
+		try {
+			return redisTemplate.opsForValue().multiGet(List.of(generationKey, key));
+		} catch (Exception e) {
+			log.warn("[ToolResultCache] 조회 실패 key : {}, message : {}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	// "{세대}|{id}:{distance},{id}:{distance}..."
+	private void write(String key, String generation, List<Document> documents) {
+		StringBuilder value = new StringBuilder(generation).append(GENERATION_DELIMITER);
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
+			Object distance = document.getMetadata().get("distance");
+			if (!(distance instanceof Number)) {
+				// 다시 만들 수 없는 결과는 캐싱하지 않음
+				return;
+			}
+			if (i > 0) {
+				value.append(DOCUMENT_DELIMITER);
+			}
+			value.append(document.getId()).append(SCORE_DELIMITER).append(distance);
+		}
+
+		try {
+			redisTemplate.opsForValue().set(key, value.toString(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			log.warn("[ToolResultCache] 저장 실패 key : {}, message : {}", key, e.getMessage());
+		}
+	}
+
+	/**
+	 * @return 세대가 같고 저장된 문서가 모두 남아 있으면 문서 목록, 아니면 null
+	 */
+	private List<Document> decode(String value, String generation) {
+		int delimiter = value.indexOf(GENERATION_DELIMITER);
+		if (delimiter < 0 || !generation.equals(value.substring(0, delimiter))) {
+			return null;
+		}
+
+		String body = value.substring(delimiter + 1);
+		if (body.isEmpty()) {
+			return List.of();
+		}
+
+		List<String> ids = new ArrayList<>();
+		List<Double> distances = new ArrayList<>();
+		for (String entry : body.split(DOCUMENT_DELIMITER)) {
+			int separator = entry.lastIndexOf(SCORE_DELIMITER);
+			ids.add(entry.substring(0, separator));
+			distances.add(Double.parseDouble(entry.substring(separator + 1)));
+		}
+
+		List<Document> documents = placeVectorRepository.findByIds(ids, distances);
+		return documents.size() == ids.size() ? documents : null;
+	}
+
+	private Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("marky.cache.lookup")
+			.description("툴 결과 캐시 조회 결과")
+			.tag("cache", TOOL_RESULT_CACHE)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -2,26 +2,34 @@ package com.groom.marky.service.advisor;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.marky.common.constant.ContextKeys;
+import com.groom.marky.service.LocalIntentClassifier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClientRequest;
 import org.springframework.ai.chat.client.ChatClientResponse;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Description;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.*;
 
 @Slf4j
 @Description("사용자 요청에서 activity_detail을 추출하는 어드바이저")
-public class ActivityDetailAdvisor implements CallAdvisor {
+public class ActivityDetailAdvisor implements CallAdvisor, StreamAdvisor {
 
 	private final ChatModel chatModel;
 	private final ObjectMapper objectMapper;
+	private final LocalIntentClassifier localIntentClassifier;
 
 	private static final Set<String> SUPPORTED_ACTIVITIES = Set.of(
 		"클라이밍", "스크린야구", "스크린골프", "보드게임카페", "만화카페",
@@ -32,25 +40,69 @@ public class ActivityDetailAdvisor implements CallAdvisor {
 	private static final String INTENT_KEY = "intent";
 
 	@Autowired
-	public ActivityDetailAdvisor(ChatModel chatModel, ObjectMapper objectMapper) {
+	public ActivityDetailAdvisor(ChatModel chatModel, ObjectMapper objectMapper,
+		LocalIntentClassifier localIntentClassifier) {
 		this.chatModel = chatModel;
 		this.objectMapper = objectMapper;
+		this.localIntentClassifier = localIntentClassifier;
 	}
 
 	@Override
 	public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
-
 		log.info("[ActivityDetailAdvisor] 진입");
+		return chain.nextCall(resolve(request));
+	}
+
+	@Override
+	public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+		log.info("[ActivityDetailAdvisor] 진입 (stream)");
 
+		// LLM 분류 호출은 블로킹이므로 별도 스케줄러에서 수행
+		return Mono.fromCallable(() -> resolve(request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(chain::nextStream);
+	}
+
+	private ChatClientRequest resolve(ChatClientRequest request) {
 		Map<String, Object> originalContext = new HashMap<>(request.context());
 
 		String intent = (String) originalContext.get(INTENT_KEY);
 		if (intent == null || intent.isBlank() || !"액티비티".equals(intent)) {
 			log.info("[ActivityDetailAdvisor] intent 없음 또는 액티비티 아님 → skip");
-			return chain.nextCall(request);
+			return request;
+		}
+
+		// 사전 분석 단계에서 이미 분류된 경우 LLM 호출 생략
+		if (Boolean.TRUE.equals(originalContext.get(ContextKeys.PREPROCESSED))) {
+			Object activityDetail = originalContext.get(ACTIVITY_DETAIL);
+			if (activityDetail != null && SUPPORTED_ACTIVITIES.contains(activityDetail)) {
+				log.info("[ActivityDetailAdvisor] 사전 분석된 activity_detail: {}", activityDetail);
+				return request;
+			}
+
+			log.info("[ActivityDetailAdvisor] 지원하지 않는 activity_detail 또는 null: {}", activityDetail);
+			originalContext.remove(ACTIVITY_DETAIL);
+			return ChatClientRequest.builder()
+				.prompt(request.prompt())
+				.context(originalContext)
+				.build();
+		}
+
+		// 키워드 사전으로 세부 분류가 확정되면 LLM 호출 생략
+		List<UserMessage> userMessages = request.prompt().getUserMessages();
+		if (!userMessages.isEmpty()) {
+			String localDetail = localIntentClassifier.classify(userMessages.get(userMessages.size() - 1).getText())
+				.activityDetail();
+			if (localDetail != null) {
+				log.info("[ActivityDetailAdvisor] 로컬 분류된 activity_detail: {}", localDetail);
+				originalContext.put(ACTIVITY_DETAIL, localDetail);
+				return request.mutate()
+					.context(originalContext)
+					.build();
+			}
 		}
 
-		String userInput = request.prompt().getUserMessages().stream()
+		String userInput = userMessages.stream()
 			.map(UserMessage::getText)
 			.reduce(" ", String::concat)
 			.trim();
@@ -97,7 +149,7 @@ public class ActivityDetailAdvisor implements CallAdvisor {
 
 		if (!json.trim().startsWith("{")) {
 			log.warn("LLM 응답이 JSON이 아님: {}", json);
-			return chain.nextCall(request);
+			return request;
 		}
 
 		try {
@@ -107,7 +159,7 @@ public class ActivityDetailAdvisor implements CallAdvisor {
 
 			if (activityDetail == null || !SUPPORTED_ACTIVITIES.contains(activityDetail)) {
 				log.info("[ActivityDetailAdvisor] 지원하지 않는 activity_detail 또는 null: {}", activityDetail);
-				return chain.nextCall(request);
+				return request;
 			}
 
 			log.info("[ActivityDetailAdvisor] 추출된 activity_detail: {}", activityDetail);
@@ -118,11 +170,11 @@ public class ActivityDetailAdvisor implements CallAdvisor {
 				.context(originalContext)
 				.build();
 
-			return chain.nextCall(modified);
+			return modified;
 
 		} catch (Exception e) {
 			log.warn("JSON 파싱 실패: {} LLM 응답: {}", e.getMessage(), json, e);
-			return chain.nextCall(request);
+			return request;
 		}
 	}
 
@@ -2,6 +2,7 @@ package com.groom.marky.service.advisor;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -9,6 +10,8 @@ import org.springframework.ai.chat.client.ChatClientRequest;
 import org.springframework.ai.chat.client.ChatClientResponse;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.model.ChatModel;
@@ -16,18 +19,24 @@ import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Description;
 
+import com.groom.marky.common.constant.ContextKeys;
 import com.groom.marky.service.KakaoPlaceSearchService;
+import com.groom.marky.service.LocationCategoryCache;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Description("사용자 요청의 location을 위경도로 변환하는 어드바이저")
-public class LocationResolverAdvisor implements CallAdvisor {
+public class LocationResolverAdvisor implements CallAdvisor, StreamAdvisor {
 
 	private static final String LOCATION_KEY = "location";
 	private final KakaoPlaceSearchService kakaoPlaceSearchService;
 	private final ChatModel chatModel;
 	private final ObjectMapper objectMapper;
+	private final LocationCategoryCache locationCategoryCache;
 
 	private static final String ORIGIN = "origin";
 	private static final String DESTINATION = "destination";
@@ -35,20 +44,114 @@ public class LocationResolverAdvisor implements CallAdvisor {
 	private static final String INTENT_KEY = "intent";
 
 	@Autowired
-	public LocationResolverAdvisor(KakaoPlaceSearchService kakaoPlaceSearchService, ChatModel chatModel, ObjectMapper objectMapper) {
+	public LocationResolverAdvisor(KakaoPlaceSearchService kakaoPlaceSearchService, ChatModel chatModel, ObjectMapper objectMapper,
+		LocationCategoryCache locationCategoryCache) {
 		this.kakaoPlaceSearchService = kakaoPlaceSearchService;
 		this.chatModel = chatModel;
 		this.objectMapper = objectMapper;
+		this.locationCategoryCache = locationCategoryCache;
 	}
 
 
 	@Override
 	public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
-
 		log.info("[LocationResolverAdvisor] 진입");
+		return chain.nextCall(resolve(request));
+	}
+
+	@Override
+	public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+		log.info("[LocationResolverAdvisor] 진입 (stream)");
+
+		// 카카오 / LLM 호출은 블로킹이므로 별도 스케줄러에서 수행
+		return Mono.fromCallable(() -> resolve(request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(chain::nextStream);
+	}
 
+	private ChatClientRequest resolve(ChatClientRequest request) {
 		String intent = (String) request.context().get(INTENT_KEY);
 		String location = (String) request.context().get(LOCATION_KEY);
+
+		String origin = (String) request.context().get(ORIGIN);
+		String destination = (String) request.context().get(DESTINATION);
+
+		// 경로 처리
+		if ("경로".equals(intent)) {
+
+			if (origin == null || destination == null) {
+				log.warn("[LocationResolverAdvisor] origin 또는 destination 이 null 입니다. 스킵합니다.");
+				return request;
+			}
+
+			Map<String, Double> originCoord = kakaoPlaceSearchService.search(origin);
+			Map<String, Double> destCoord = kakaoPlaceSearchService.search(destination);
+
+			if (originCoord == null || destCoord == null) {
+				log.warn("[LocationResolverAdvisor] 출발역 또는 도착역 위경도 검색 실패 - origin: {}, dest: {}", originCoord, destCoord);
+				return request;
+			}
+
+			log.info("[LocationResolverAdvisor] 출발역 '{}' → lat={}, lon={}", origin, originCoord.get("lat"), originCoord.get("lon"));
+			log.info("[LocationResolverAdvisor] 도착역 '{}' → lat={}, lon={}", destination, destCoord.get("lat"), destCoord.get("lon"));
+
+			ChatClientRequest modified = request.mutate()
+				.context("originLat", originCoord.get("lat"))
+				.context("originLon", originCoord.get("lon"))
+				.context("destLat", destCoord.get("lat"))
+				.context("destLon", destCoord.get("lon"))
+				.build();
+
+			return modified;
+		}
+
+		// 일반 location 처리
+		if (location == null || location.isBlank()) {
+			log.warn("[LocationResolverAdvisor] location 이 누락되어 해당 어드바이저는 스킵합니다.");
+			return request;
+		}
+
+		// intent가 경로가 아닐 경우 기본 location 처리
+		String categoryCode;
+		if (Boolean.TRUE.equals(request.context().get(ContextKeys.PREPROCESSED))) {
+			// 사전 분석 단계에서 분류된 카테고리 사용, 없으면 메모 → 키워드 검색 순으로 fallback
+			categoryCode = (String) request.context().get(CATEGORY_CODE);
+			if (categoryCode == null) {
+				categoryCode = locationCategoryCache.get(location);
+			} else {
+				locationCategoryCache.put(location, categoryCode);
+			}
+		} else {
+			// 같은 location 의 분류 결과는 바뀌지 않으므로 메모를 먼저 조회
+			categoryCode = locationCategoryCache.get(location);
+			if (categoryCode == null) {
+				categoryCode = classifyCategory(location);
+				if (categoryCode == null) {
+					return request;
+				}
+				locationCategoryCache.put(location, categoryCode);
+			}
+		}
+
+		log.info("category_code : {}", categoryCode);
+		Map<String, Double> coordination = kakaoPlaceSearchService.searchLocation(location, categoryCode);
+		if (coordination == null) {
+			log.warn("[LocationResolverAdvisor] kakaoPlaceSearchService.search 결과가 null 입니다. 해당 어드바이저는 스킵합니다. location: {}", location);
+			return request;
+		}
+
+		log.info("[LocationResolverAdvisor] location '{}' → lat={}, lon={}", location, coordination.get("lat"), coordination.get("lon"));
+
+		//  여기만 mutate()로 변경
+		ChatClientRequest modified = request.mutate()
+			.context("lat", coordination.get("lat"))
+			.context("lon", coordination.get("lon"))
+			.build();
+
+		return modified;
+	}
+
+	private String classifyCategory(String location) {
 		Prompt prompt = new Prompt(List.of(
 			new SystemMessage("""
 						너는 location 문자열을 입력받아, 해당 내용을 기반으로 KakaoMapCategoryGroupCode 중 하나를 정확하게 선택하는 역할을 수행한다.
@@ -100,73 +203,18 @@ public class LocationResolverAdvisor implements CallAdvisor {
 			new UserMessage(location)
 		));
 
-		String origin = (String) request.context().get(ORIGIN);
-		String destination = (String) request.context().get(DESTINATION);
-
-		// 경로 처리
-		if ("경로".equals(intent)) {
-
-			if (origin == null || destination == null) {
-				log.warn("[LocationResolverAdvisor] origin 또는 destination 이 null 입니다. 스킵합니다.");
-				return chain.nextCall(request);
-			}
-
-			Map<String, Double> originCoord = kakaoPlaceSearchService.search(origin);
-			Map<String, Double> destCoord = kakaoPlaceSearchService.search(destination);
-
-			if (originCoord == null || destCoord == null) {
-				log.warn("[LocationResolverAdvisor] 출발역 또는 도착역 위경도 검색 실패 - origin: {}, dest: {}", originCoord, destCoord);
-				return chain.nextCall(request);
-			}
-
-			log.info("[LocationResolverAdvisor] 출발역 '{}' → lat={}, lon={}", origin, originCoord.get("lat"), originCoord.get("lon"));
-			log.info("[LocationResolverAdvisor] 도착역 '{}' → lat={}, lon={}", destination, destCoord.get("lat"), destCoord.get("lon"));
-
-			ChatClientRequest modified = request.mutate()
-				.context("originLat", originCoord.get("lat"))
-				.context("originLon", originCoord.get("lon"))
-				.context("destLat", destCoord.get("lat"))
-				.context("destLon", destCoord.get("lon"))
-				.build();
-
-			return chain.nextCall(modified);
-		}
-
-		// 일반 location 처리
-		if (location == null || location.isBlank()) {
-			log.warn("[LocationResolverAdvisor] location 이 누락되어 해당 어드바이저는 스킵합니다.");
-			return chain.nextCall(request);
-		}
-
-		// intent가 경로가 아닐 경우 기본 location 처리
 		String json = chatModel.call(prompt).getResult().getOutput().getText();
 		if (!json.trim().startsWith("{")) {
 			log.warn("LLM 응답이 JSON이 아님: {}", json);
-			return chain.nextCall(request);
+			return null;
 		}
 		try {
 			Map<String, String> extracted = objectMapper.readValue(json, new TypeReference<>() {});
-			String category_code = extracted.get(CATEGORY_CODE);
-			log.info("category_code : {}", category_code);
-			Map<String, Double> coordination = kakaoPlaceSearchService.searchLocation(location, category_code);
-			if (coordination == null) {
-				log.warn("[LocationResolverAdvisor] kakaoPlaceSearchService.search 결과가 null 입니다. 해당 어드바이저는 스킵합니다. location: {}", location);
-				return chain.nextCall(request);
-			}
-
-			log.info("[LocationResolverAdvisor] location '{}' → lat={}, lon={}", location, coordination.get("lat"), coordination.get("lon"));
-
-			//  여기만 mutate()로 변경
-			ChatClientRequest modified = request.mutate()
-				.context("lat", coordination.get("lat"))
-				.context("lon", coordination.get("lon"))
-				.build();
-
-			return chain.nextCall(modified);
-
-		}catch (Exception e) {
+			// 매핑할 수 없는 경우 searchLocation 에서 키워드 검색으로 fallback
+			return Objects.requireNonNullElse(extracted.get(CATEGORY_CODE), "null");
+		} catch (Exception e) {
 			log.warn("JSON 파싱 실패: {} LLM 응답: {}", e.getMessage(), json, e);
-			return chain.nextCall(request);
+			return null;
 		}
 	}
 
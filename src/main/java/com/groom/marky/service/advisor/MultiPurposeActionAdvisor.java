@@ -1,23 +1,56 @@
 package com.groom.marky.service.advisor;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.ai.chat.client.ChatClientRequest;
 import org.springframework.ai.chat.client.ChatClientResponse;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.context.annotation.Description;
 
+import com.groom.marky.service.tool.DirectToolDispatcher;
+
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
-@Description("사용자의 intent, location, mood context를 기반으로 searchParkingLots와 searchActivity와 similaritySearch 툴 호출을 구성하고 실행을 유도하는 어드바이저")
-public class MultiPurposeActionAdvisor implements CallAdvisor {
+@Description("사용자의 intent, location, mood context를 기반으로 툴을 직접 실행하거나, 인자가 부족하면 모델의 툴 호출을 유도하는 어드바이저")
+public class MultiPurposeActionAdvisor implements CallAdvisor, StreamAdvisor {
+
+	// 툴 호출 여부와 관계없이 공통으로 쓰는 최종 응답 형식
+	private static final String responseFormat = """
+		**최종 응답 출력 규칙**
+			- 아래 JSON 형태로만 출력해야 함 (절대 설명하지 마)
+			```json ``` 으로 감싸지 마.
+					- ChatResponse 형식:
+			{
+				"message": "사용자에게 보여줄 요약 메시지",
+					"places": [
+				{
+					"name": "...",
+						"address": "...",
+						"latitude": 0.0,
+						"longitude": 0.0,
+						"rating": 0.0,
+						"reviewCount": 0,
+						"reviewSummary": "..."
+				}
+			  ]
+			}
+	""";
 
 	private static final String toolHint = """
 		너는 사용자의 요청을 이해하고, context 정보를 기반으로 적절한 도구(tool)를 호출한 뒤, 
@@ -50,34 +83,82 @@ public class MultiPurposeActionAdvisor implements CallAdvisor {
 		
 		---
 		
-		**최종 응답 출력 규칙**
-			- 아래 JSON 형태로만 출력해야 함 (절대 설명하지 마)
-			```json ``` 으로 감싸지 마.
-					- ChatResponse 형식:
-			{
-				"message": "사용자에게 보여줄 요약 메시지",
-					"places": [
-				{
-					"name": "...",
-						"address": "...",
-						"latitude": 0.0,
-						"longitude": 0.0,
-						"rating": 0.0,
-						"reviewCount": 0,
-						"reviewSummary": "..."
-				}
-			  ]
-			}
-	""";
+	""" + responseFormat;
+
+	// DirectToolDispatcher 가 툴을 미리 실행한 경우. 툴 목록 / 호출 규칙 없이 결과 요약만 요청
+	private static final String directResultHint = """
+		너는 context 정보에 맞춰 이미 실행된 도구(tool)의 결과를 사용자에게 자연스럽고 친절하게 요약해주는 역할이야.
+		도구는 다시 호출할 수 없으니, 아래 도구 실행 결과에 있는 내용만 사용해서 답해줘.
+		결과가 비어 있으면 places는 빈 배열로 두고, 조건에 맞는 곳을 찾지 못했다고 안내해줘.
+		경로 안내처럼 장소가 아닌 결과는 message에 담고 places는 빈 배열로 둬.
+		
+		---
+		
+	""" + responseFormat;
+
+	private final DirectToolDispatcher directToolDispatcher;
+
+	public MultiPurposeActionAdvisor(DirectToolDispatcher directToolDispatcher) {
+		this.directToolDispatcher = directToolDispatcher;
+	}
 
 	@Override
 	public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
 		log.info("[MultiPurposeActionAdvisor] 진입");
 
+		Map<String, Object> context = request.context();
+		ChatClientResponse response = chain.nextCall(augment(request));
+
+		Usage usage = response.chatResponse().getMetadata().getUsage();
+		AssistantMessage output = response.chatResponse().getResult().getOutput();
+		String userMessageText = (String) context.get("userRawInput");
+		String outputText = output.getText();
+
+		log.info("userMessage : {}, output : {}", userMessageText, outputText);
+		output.getMetadata().put("question", userMessageText);
+		output.getMetadata().put("answer", outputText);
+		output.getMetadata().put("usage", usage);
+
+		return response;
+	}
+
+	@Override
+	public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+		log.info("[MultiPurposeActionAdvisor] 진입 (stream)");
+
+		String userMessageText = (String) request.context().get("userRawInput");
+		StringBuilder answer = new StringBuilder();
+
+		// 툴 직접 실행(DB, 외부 API)은 블로킹이므로 별도 스케줄러에서 수행
+		// 메모리 어드바이저가 청크 메타데이터를 합치므로, 청크마다 누적된 답변을 기록해 마지막 값이 전체 답변이 되도록 함
+		return Mono.fromCallable(() -> augment(request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(chain::nextStream)
+			.doOnNext(response -> {
+				if (response.chatResponse() == null || response.chatResponse().getResult() == null) {
+					return;
+				}
+				AssistantMessage output = response.chatResponse().getResult().getOutput();
+				if (output.getText() != null) {
+					answer.append(output.getText());
+				}
+				output.getMetadata().put("question", userMessageText);
+				output.getMetadata().put("answer", answer.toString());
+				output.getMetadata().put("usage", response.chatResponse().getMetadata().getUsage());
+			})
+			.doOnComplete(() -> log.info("userMessage : {}, output : {}", userMessageText, answer));
+	}
+
+	private ChatClientRequest augment(ChatClientRequest request) {
 		Map<String, Object> context = request.context();
 		String intent = (String) context.get("intent");
 		StringBuilder contextSummary = new StringBuilder("현재 사용자의 context 정보:\n");
-		context.forEach((k, v) -> contextSummary.append("- ").append(k).append(": ").append(v).append("\n"));
+		context.forEach((k, v) -> {
+			// 메모리 어드바이저용 대화 id 는 프롬프트에 넣지 않음
+			if (!ChatMemory.CONVERSATION_ID.equals(k)) {
+				contextSummary.append("- ").append(k).append(": ").append(v).append("\n");
+			}
+		});
 
 		String systemPrompt;
 		if (intent == null || intent.isBlank()) {
@@ -91,24 +172,30 @@ public class MultiPurposeActionAdvisor implements CallAdvisor {
 			예: 클라이밍, 보드게임카페, 찜질방 등
 			""";
 		} else {
+			DirectToolDispatcher.Result result = directToolDispatcher.dispatch(context);
+			if (result != null) {
+				// 툴을 이미 실행했으므로 툴 정의 없이 요약 호출 한 번으로 끝냄
+				systemPrompt = directResultHint + "\n\n" + contextSummary
+					+ "\n도구 실행 결과 (" + result.toolName() + "):\n" + result.output();
+				Prompt merged = withoutTools(request.prompt().augmentSystemMessage(systemPrompt));
+				return request.mutate().prompt(merged).build();
+			}
 			systemPrompt = toolHint + "\n\n" + contextSummary;
 		}
 
 		Prompt merged = request.prompt().augmentSystemMessage(systemPrompt);
-		ChatClientRequest updatedRequest = request.mutate().prompt(merged).build();
-		ChatClientResponse response = chain.nextCall(updatedRequest);
-
-		Usage usage = response.chatResponse().getMetadata().getUsage();
-		AssistantMessage output = response.chatResponse().getResult().getOutput();
-		String userMessageText = (String) context.get("userRawInput");
-		String outputText = output.getText();
-
-		log.info("userMessage : {}, output : {}", userMessageText, outputText);
-		output.getMetadata().put("question", userMessageText);
-		output.getMetadata().put("answer", outputText);
-		output.getMetadata().put("usage", usage);
+		return request.mutate().prompt(merged).build();
+	}
 
-		return response;
+	// ChatClientFactory 의 기본 옵션에 등록된 툴 콜백을 이번 요청에서만 비움
+	private static Prompt withoutTools(Prompt prompt) {
+		if (!(prompt.getOptions() instanceof ToolCallingChatOptions options)) {
+			return prompt;
+		}
+		ToolCallingChatOptions copied = options.copy();
+		copied.setToolCallbacks(List.of());
+		copied.setToolNames(Set.of());
+		return new Prompt(prompt.getInstructions(), copied);
 	}
 
 	@Override
@@ -118,6 +205,6 @@ public class MultiPurposeActionAdvisor implements CallAdvisor {
 
 	@Override
 	public int getOrder() {
-		return 4;
+		return 5;
 	}
 }
@@ -0,0 +1,131 @@
+package com.groom.marky.service.advisor;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.context.annotation.Description;
+
+import com.groom.marky.common.constant.ContextKeys;
+import com.groom.marky.service.SemanticResponseCache;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Description("intent, 좌표, mood 가 거의 같은 이전 답변이 있으면 툴 호출과 최종 응답 생성을 생략하고 그 답변을 반환하는 어드바이저")
+public class SemanticCacheAdvisor implements CallAdvisor, StreamAdvisor {
+
+	private final SemanticResponseCache semanticResponseCache;
+
+	public SemanticCacheAdvisor(SemanticResponseCache semanticResponseCache) {
+		this.semanticResponseCache = semanticResponseCache;
+	}
+
+	@Override
+	public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+		Lookup lookup = lookup(request);
+		if (lookup.cached() != null) {
+			return cachedResponse(request, lookup.cached());
+		}
+		if (lookup.key() == null) {
+			return chain.nextCall(request);
+		}
+
+		long start = System.currentTimeMillis();
+		ChatClientResponse response = chain.nextCall(request);
+		long latency = System.currentTimeMillis() - start;
+
+		if (response.chatResponse() != null && response.chatResponse().getResult() != null) {
+			semanticResponseCache.put(lookup.key(), response.chatResponse().getResult().getOutput().getText(),
+				totalTokens(response.chatResponse().getMetadata().getUsage()), latency);
+		}
+		return response;
+	}
+
+	@Override
+	public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+		// 캐시 조회(Redis, 임베딩)는 블로킹이므로 별도 스케줄러에서 수행
+		return Mono.fromCallable(() -> lookup(request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(lookup -> {
+				if (lookup.cached() != null) {
+					return Flux.just(cachedResponse(request, lookup.cached()));
+				}
+				if (lookup.key() == null) {
+					return chain.nextStream(request);
+				}
+
+				long start = System.currentTimeMillis();
+				StringBuilder answer = new StringBuilder();
+				int[] tokens = {0};
+				return chain.nextStream(request)
+					.doOnNext(response -> {
+						if (response.chatResponse() == null || response.chatResponse().getResult() == null) {
+							return;
+						}
+						String text = response.chatResponse().getResult().getOutput().getText();
+						if (text != null) {
+							answer.append(text);
+						}
+						// 사용량은 마지막 청크에만 담겨 오는 경우가 있어 0 이 아닌 마지막 값을 사용
+						int total = totalTokens(response.chatResponse().getMetadata().getUsage());
+						if (total > 0) {
+							tokens[0] = total;
+						}
+					})
+					.doOnComplete(() -> {
+						long latency = System.currentTimeMillis() - start;
+						Schedulers.boundedElastic().schedule(
+							() -> semanticResponseCache.put(lookup.key(), answer.toString(), tokens[0], latency));
+					});
+			});
+	}
+
+	private Lookup lookup(ChatClientRequest request) {
+		SemanticResponseCache.Key key = semanticResponseCache.key(request.context());
+		if (key == null) {
+			return new Lookup(null, null);
+		}
+		return new Lookup(key, semanticResponseCache.get(key));
+	}
+
+	// MultiPurposeActionAdvisor 와 같은 메타데이터를 달아 대화 기록(ChatLog)에도 그대로 남도록 함
+	private ChatClientResponse cachedResponse(ChatClientRequest request, String answer) {
+		log.info("[SemanticCacheAdvisor] 캐시된 답변 반환");
+		Object question = request.context().get(ContextKeys.USER_RAW_INPUT);
+		AssistantMessage output = new AssistantMessage(answer, question == null
+			? Map.of("answer", answer)
+			: Map.of("question", question, "answer", answer));
+		return new ChatClientResponse(new ChatResponse(List.of(new Generation(output))), request.context());
+	}
+
+	private static int totalTokens(Usage usage) {
+		return usage == null || usage.getTotalTokens() == null ? 0 : usage.getTotalTokens();
+	}
+
+	@Override
+	public String getName() {
+		return "SemanticCacheAdvisor";
+	}
+
+	// 좌표, activity_detail 이 모두 정해진 뒤(ActivityDetailAdvisor 다음), 툴 호출 전(MultiPurposeActionAdvisor 앞)
+	@Override
+	public int getOrder() {
+		return 4;
+	}
+
+	private record Lookup(SemanticResponseCache.Key key, String cached) {
+	}
+}
@@ -4,12 +4,15 @@ import org.springframework.ai.chat.client.ChatClientRequest;
 import org.springframework.ai.chat.client.ChatClientResponse;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
 import org.springframework.ai.chat.prompt.Prompt;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Slf4j
-public class SystemRoleAdvisor implements CallAdvisor {
+public class SystemRoleAdvisor implements CallAdvisor, StreamAdvisor {
 
 	private static final String SYSTEM_MESSAGE = """
 		너는 '마키(Marky)'라는 이름의 AI야. 사용자의 데이트 관련 요청을 친절하게 도와줘.
@@ -30,8 +33,15 @@ public class SystemRoleAdvisor implements CallAdvisor {
 
 	@Override
 	public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
+		return chain.nextCall(augment(request));
+	}
 
+	@Override
+	public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+		return chain.nextStream(augment(request));
+	}
 
+	private ChatClientRequest augment(ChatClientRequest request) {
 		Prompt merged = request.prompt().augmentSystemMessage(SYSTEM_MESSAGE);
 
 		// 사용자 입력 원본을 context에 저장
@@ -44,7 +54,7 @@ public class SystemRoleAdvisor implements CallAdvisor {
 			.context("userRawInput", rawUserInput)  // 여기서 최초로 삽입
 			.build();
 
-		return chain.nextCall(modified);
+		return modified;
 	}
 
 	@Override
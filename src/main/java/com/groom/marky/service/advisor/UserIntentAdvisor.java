@@ -9,6 +9,8 @@ import org.springframework.ai.chat.client.ChatClientRequest;
 import org.springframework.ai.chat.client.ChatClientResponse;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
 import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
 import org.springframework.ai.chat.messages.*;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.model.ChatResponse;
@@ -18,15 +20,21 @@ import org.springframework.context.annotation.Description;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.marky.common.constant.ContextKeys;
+import com.groom.marky.service.LocalIntentClassifier;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Description("사용자의 메시지에서 intent, location, mood를 추출하는 어드바이저")
-public class UserIntentAdvisor implements CallAdvisor {
+public class UserIntentAdvisor implements CallAdvisor, StreamAdvisor {
 
 	private final ChatModel chatModel;
 	private final ObjectMapper objectMapper;
+	private final LocalIntentClassifier localIntentClassifier;
 
 	private static final String INTENT_KEY = "intent";
 	private static final String LOCATION_KEY = "location";
@@ -44,47 +52,107 @@ public class UserIntentAdvisor implements CallAdvisor {
 	);
 
 	@Autowired
-	public UserIntentAdvisor(ChatModel chatModel, ObjectMapper objectMapper) {
+	public UserIntentAdvisor(ChatModel chatModel, ObjectMapper objectMapper,
+		LocalIntentClassifier localIntentClassifier) {
 		this.chatModel = chatModel;
 		this.objectMapper = objectMapper;
+		this.localIntentClassifier = localIntentClassifier;
 	}
 
 	@Override
 	public ChatClientResponse adviseCall(ChatClientRequest request, CallAdvisorChain chain) {
 		log.info("[UserIntentAdvisor] 진입");
 
+		Map<String, Object> extracted = extract(request);
+
+		if (isUnresolved(extracted)) {
+			ChatResponse fallback = chatModel.call(clarifyingPrompt(request));
+			return new ChatClientResponse(fallback, extracted);
+		}
+
+		return chain.nextCall(withContext(request, extracted));
+	}
+
+	@Override
+	public Flux<ChatClientResponse> adviseStream(ChatClientRequest request, StreamAdvisorChain chain) {
+		log.info("[UserIntentAdvisor] 진입 (stream)");
+
+		// 추출 호출은 블로킹이므로 별도 스케줄러에서 수행
+		return Mono.fromCallable(() -> extract(request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(extracted -> {
+				if (isUnresolved(extracted)) {
+					return chatModel.stream(clarifyingPrompt(request))
+						.map(fallback -> new ChatClientResponse(fallback, extracted));
+				}
+				return chain.nextStream(withContext(request, extracted));
+			});
+	}
+
+	private Map<String, Object> extract(ChatClientRequest request) {
+		// 사전 분석 단계에서 이미 추출된 경우 LLM 호출 생략
+		if (Boolean.TRUE.equals(request.context().get(ContextKeys.PREPROCESSED))) {
+			log.info("[UserIntentAdvisor] 사전 분석 결과 사용");
+			Map<String, Object> extracted = new HashMap<>();
+			for (String key : List.of(INTENT_KEY, LOCATION_KEY, MOOD_KEY, ORIGIN, DESTINATION, TIME_SLOT, DAY_TYPE)) {
+				extracted.put(key, request.context().getOrDefault(key, ""));
+			}
+			return extracted;
+		}
+
 		List<UserMessage> allUserMessages = request.prompt().getUserMessages();
 		log.info("userMessages 수 : {}", allUserMessages.size());
 
+		// 현재 메시지만으로 intent, location 이 확정되면 LLM 호출 생략
+		if (!allUserMessages.isEmpty()) {
+			LocalIntentClassifier.Result local =
+				localIntentClassifier.classify(allUserMessages.get(allUserMessages.size() - 1).getText());
+			if (local.isComplete()) {
+				log.info("[UserIntentAdvisor] 로컬 분류 결과 사용 : {}", local);
+				Map<String, Object> extracted = new HashMap<>();
+				for (String key : List.of(MOOD_KEY, ORIGIN, DESTINATION, TIME_SLOT, DAY_TYPE)) {
+					extracted.put(key, "");
+				}
+				extracted.put(INTENT_KEY, local.intent());
+				extracted.put(LOCATION_KEY, local.location());
+				return extracted;
+			}
+		}
+
 		Map<String, Object> extracted = tryExtractContext(allUserMessages);
 
 		log.info("추출된 정보");
 		for (Map.Entry<String, Object> entry : extracted.entrySet()) {
 			log.info("key : {}, value : {}", entry.getKey(), entry.getValue());
 		}
+		return extracted;
+	}
 
-		if (extracted == null || extracted.get(INTENT_KEY) == null || extracted.get(INTENT_KEY).toString().isBlank()) {
-			// 사용자에게 되묻는 형태의 시스템 메시지 삽입
-			String systemPrompt = """
-				죄송해요! 요청하신 의도를 이해하지 못했어요.
-				다음 예시처럼 사용자에게 되묻는 자연스러운 메시지를 포함한 **JSON 객체 자체를 반환해줘**.
-				⚠️ **JSON 문자열이 아닌, JSON 객체로 직접 반환해야 해. 절대 문자열로 감싸지 마.**
+	private boolean isUnresolved(Map<String, Object> extracted) {
+		return extracted.get(INTENT_KEY) == null || extracted.get(INTENT_KEY).toString().isBlank();
+	}
 
-				예시 입력:
-				"성동구에서 뭐하고 놀까?"
+	private Prompt clarifyingPrompt(ChatClientRequest request) {
+		// 사용자에게 되묻는 형태의 시스템 메시지 삽입
+		String systemPrompt = """
+			죄송해요! 요청하신 의도를 이해하지 못했어요.
+			다음 예시처럼 사용자에게 되묻는 자연스러운 메시지를 포함한 **JSON 객체 자체를 반환해줘**.
+			⚠️ **JSON 문자열이 아닌, JSON 객체로 직접 반환해야 해. 절대 문자열로 감싸지 마.**
 
-				예시 출력:
-				{
-				  "message": "성동구에서 놀거리와 맛집을 찾고 계신 걸까요?",
-				  "places": []
-				}
-				""";
+			예시 입력:
+			"성동구에서 뭐하고 놀까?"
 
-			Prompt merged = request.prompt().augmentSystemMessage(systemPrompt);
-			ChatResponse fallback = chatModel.call(merged);
-			return new ChatClientResponse(fallback, extracted);
-		}
+			예시 출력:
+			{
+			  "message": "성동구에서 놀거리와 맛집을 찾고 계신 걸까요?",
+			  "places": []
+			}
+			""";
+
+		return request.prompt().augmentSystemMessage(systemPrompt);
+	}
 
+	private ChatClientRequest withContext(ChatClientRequest request, Map<String, Object> extracted) {
 		String intent = (String)extracted.getOrDefault(INTENT_KEY, "");
 		String location = (String)extracted.getOrDefault(LOCATION_KEY, "");
 		String mood = (String)extracted.getOrDefault(MOOD_KEY, "");
@@ -115,41 +183,7 @@ public class UserIntentAdvisor implements CallAdvisor {
 			}
 		}
 
-		/**
-		 * TODO : 여기서 확인
-		 */
-		for (String s : extracted.keySet()) {
-
-		}
-
-		if (extracted == null || extracted.get(INTENT_KEY) == null || extracted.get(INTENT_KEY).toString().isBlank()) {
-			log.warn("[UserIntentAdvisor] 추출 실패 → LLM을 통해 사용자에게 되묻는 응답 반환");
-
-			Prompt merged = request.prompt().augmentSystemMessage("""
-				    죄송해요! 요청하신 의도를 이해하지 못했어요. 아래 예시처럼 되묻는 응답을 자연스럽게 만들어줘.
-				
-				    예시:
-				    사용자: 성동구에서 뭐하고 놀까?
-				    → 성동구에서 놀거리와 맛집을 찾고 계신 걸까요?
-				
-				    응답 형식은 반드시 아래 JSON만 반환해야 해.
-				    {
-				      "message": "사용자에게 되묻는 자연스러운 메시지",
-				      "places": []
-				    }
-				""");
-
-			for (String s : extracted.keySet()) {
-
-			}
-
-			ChatClientRequest updatedRequest = request.mutate().prompt(merged).build();
-			ChatClientResponse response = chain.nextCall(updatedRequest);
-
-			return response;
-		}
-
-		return chain.nextCall(request.mutate()
+		return request.mutate()
 			.context(INTENT_KEY, intent)
 			.context(LOCATION_KEY, location)
 			.context(MOOD_KEY, mood)
@@ -157,7 +191,7 @@ public class UserIntentAdvisor implements CallAdvisor {
 			.context(DESTINATION, destination)
 			.context(TIME_SLOT, timeSlot)
 			.context(DAY_TYPE, dayType)
-			.build());
+			.build();
 	}
 
 	private Map<String, Object> tryExtractContext(List<UserMessage> userMessages) {
@@ -232,13 +266,13 @@ public class UserIntentAdvisor implements CallAdvisor {
 			String json = raw.replaceAll("(?s)^```json\\s*", "").replaceAll("(?s)```$", "").trim();
 
 			if (!json.startsWith("{"))
-				return null;
+				return Map.of();
 
 			return objectMapper.readValue(json, new TypeReference<>() {});
 
 		} catch (Exception e) {
 			log.warn("[UserIntentAdvisor] JSON 파싱 실패: {}", e.getMessage());
-			return null;
+			return Map.of();
 		}
 	}
 
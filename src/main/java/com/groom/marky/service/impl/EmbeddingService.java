@@ -4,18 +4,38 @@ import static com.groom.marky.common.constant.MetadataKeys.*;
 import static com.groom.marky.domain.response.GooglePlacesApiResponse.*;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.groom.marky.common.DescriptionChunker;
+import com.groom.marky.common.TokenBucketRateLimiter;
 import com.groom.marky.domain.response.DescriptionBuilder;
 import com.groom.marky.domain.response.GooglePlacesApiResponse;
+import com.groom.marky.repository.PlaceVectorBulkRepository;
+import com.groom.marky.repository.PlaceVectorRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,11 +45,40 @@ public class EmbeddingService {
 
 	private final VectorStore vectorStore;
 	private final RedisService redisService;
+	private final TokenBucketRateLimiter ollamaRateLimiter;
+	private final PlaceVectorRepository placeVectorRepository;
+	private final PlaceVectorBulkRepository placeVectorBulkRepository;
+	private final EmbeddingModel embeddingModel;
+	private final int embeddingBatchSize;
+	private final int chunkMaxTokens;
+
+	// 모든 적재 작업이 공유하는 Ollama 동시 임베딩 요청 수 제한
+	private final Semaphore embeddingPermits;
 
 	@Autowired
-	public EmbeddingService(VectorStore vectorStore, RedisService redisService) {
+	public EmbeddingService(VectorStore vectorStore, RedisService redisService,
+		@Qualifier("ollamaRateLimiter") TokenBucketRateLimiter ollamaRateLimiter,
+		PlaceVectorRepository placeVectorRepository, PlaceVectorBulkRepository placeVectorBulkRepository,
+		EmbeddingModel embeddingModel,
+		@Value("${ingestion.bulk.embedding-batch-size}") int embeddingBatchSize,
+		@Value("${ingestion.bulk.embedding-concurrency}") int embeddingConcurrency,
+		@Value("${ingestion.chunk.max-tokens}") int chunkMaxTokens) {
 		this.vectorStore = vectorStore;
 		this.redisService = redisService;
+		this.ollamaRateLimiter = ollamaRateLimiter;
+		this.placeVectorRepository = placeVectorRepository;
+		this.placeVectorBulkRepository = placeVectorBulkRepository;
+		this.embeddingModel = embeddingModel;
+		this.embeddingBatchSize = embeddingBatchSize;
+		this.embeddingPermits = new Semaphore(embeddingConcurrency);
+		this.chunkMaxTokens = chunkMaxTokens;
+	}
+
+	/**
+	 * 대량 적재 구간. vector_store 가 거의 비어 있으면 적재 동안 벡터 인덱스를 내렸다가 끝난 뒤 다시 만든다.
+	 */
+	public <T> T bulkLoad(Supplier<T> load) {
+		return placeVectorBulkRepository.withDeferredIndexes(load);
 	}
 
 	public void saveEmbeddings(GooglePlacesApiResponse apiResponse, DescriptionBuilder descriptionBuilder) {
@@ -57,24 +106,27 @@ public class EmbeddingService {
 					));
 			}).toList();
 
-		vectorStore.add(documents);
+		store(documents);
 	}
 
+	/**
+	 * 리뷰가 많아 설명이 chunk-max-tokens 를 넘는 음식점은 섹션 / 리뷰 경계에서 나눠 청크마다 임베딩한다.
+	 * 첫 청크는 장소 UUID 를 그대로 쓰고, 나머지는 "{googlePlaceId}#{순번}" 으로 UUID 를 만든다.
+	 * 검색 시 청크 점수는 googlePlaceId 기준으로 합쳐진다 (PlaceVectorRepository).
+	 */
 	public void saveRestaurantEmbeddings(GooglePlacesApiResponse apiResponse, DescriptionBuilder descriptionBuilder) {
 
 		List<Place> places = apiResponse.places();
+		Map<String, Integer> chunkCounts = new HashMap<>();
 
 		// UUID 비교, 업데이트..
 		List<Document> documents = places.stream()
-			.map(place -> {
+			.flatMap(place -> {
 				String description = descriptionBuilder.buildDescription(place);
-				String id = UUID.nameUUIDFromBytes(place.id().getBytes(StandardCharsets.UTF_8)).toString();
-
-				log.info("placeId={}, length={}", place.id(), description.length());
-				if (description.length() > 7400) {
-					log.info("!!!!!!!!!!!!!!토큰초과 예상됨!!!!!!!!!!!!!!!!");
-					log.info("placeId={}, length={}", place.id(), description.length());
-					redisService.markPlaceAsOverLength(place);
+				List<String> chunks = DescriptionChunker.chunk(description, chunkMaxTokens);
+				chunkCounts.put(place.id(), chunks.size());
+				if (chunks.size() > 1) {
+					log.debug("placeId={}, length={}, 청크 {}개로 분할", place.id(), description.length(), chunks.size());
 				}
 
 				String type = "음식점";
@@ -82,23 +134,34 @@ public class EmbeddingService {
 					type = place.primaryTypeDisplayName().text();
 				}
 
-				return new Document(
-					id,
-					description, // 자연어
-					Map.of(
-						GOOGLEPLACEID, place.id(),
-						DISPLAYNAME, place.displayName().text(),
-						PRIMARYTYPE, type,
-						TYPE, descriptionBuilder.getType(),
-						LAT, place.location().latitude(),
-						LON, place.location().longitude(),
-						FORMATTEDADDRESS, place.formattedAddress(),
-						USERRATINGCOUNT, place.userRatingCount(),
-						RATING, place.rating()
-					));
+				Map<String, Object> metadata = new HashMap<>(Map.of(
+					GOOGLEPLACEID, place.id(),
+					DISPLAYNAME, place.displayName().text(),
+					PRIMARYTYPE, type,
+					TYPE, descriptionBuilder.getType(),
+					LAT, place.location().latitude(),
+					LON, place.location().longitude(),
+					FORMATTEDADDRESS, place.formattedAddress(),
+					USERRATINGCOUNT, place.userRatingCount(),
+					RATING, place.rating()
+				));
+
+				return IntStream.range(0, chunks.size()).mapToObj(index -> {
+					String key = index == 0 ? place.id() : place.id() + "#" + index;
+					String id = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+
+					Map<String, Object> chunkMetadata = new HashMap<>(metadata);
+					if (chunks.size() > 1) {
+						chunkMetadata.put(CHUNK, index);
+						chunkMetadata.put(CHUNK_COUNT, chunks.size());
+					}
+					return new Document(id, chunks.get(index), chunkMetadata);
+				});
 			}).toList();
 
-		vectorStore.add(documents);
+		store(documents);
+		// 리뷰가 줄어 청크 수가 줄었으면 남은 이전 청크 삭제
+		placeVectorRepository.deleteChunksBeyond(chunkCounts);
 	}
 
 	public List<Place> saveParkingLotsEmbeddings(GooglePlacesApiResponse apiResponse,
@@ -149,8 +212,105 @@ public class EmbeddingService {
 					));
 			}).toList();
 
-		vectorStore.add(documents);
+		store(documents);
 		return filteredPlace;
 	}
 
+	/**
+	 * 저장된 content_hash 와 비교해 본문이 바뀐 장소만 배치 임베딩해 COPY 로 upsert 하고,
+	 * 메타데이터만 바뀐 장소는 임베딩 없이 메타데이터만 갱신한다.
+	 */
+	private void store(List<Document> documents) {
+		if (documents.isEmpty()) {
+			return;
+		}
+		if (!placeVectorRepository.isContentHashReady()) {
+			ollamaRateLimiter.acquire();
+			vectorStore.add(documents);
+			return;
+		}
+
+		Map<String, String> stored = placeVectorRepository.findContentHashes(
+			documents.stream().map(Document::getId).toList());
+
+		List<Document> changed = new ArrayList<>();
+		List<Document> metadataChanged = new ArrayList<>();
+		Map<String, String> hashes = new HashMap<>();
+		for (Document document : documents) {
+			String textHash = sha256(document.getText());
+			String hash = textHash + ":" + sha256(new TreeMap<>(document.getMetadata()).toString());
+			String storedHash = stored.get(document.getId());
+			if (hash.equals(storedHash)) {
+				continue;
+			}
+
+			hashes.put(document.getId(), hash);
+			if (storedHash != null && storedHash.startsWith(textHash + ":")) {
+				metadataChanged.add(document);
+			} else {
+				changed.add(document);
+			}
+		}
+
+		if (!changed.isEmpty()) {
+			placeVectorBulkRepository.upsert(changed, embed(changed), hashes);
+		}
+		if (!metadataChanged.isEmpty()) {
+			placeVectorRepository.updateMetadata(metadataChanged, hashes);
+		}
+
+		log.info("[EmbeddingService] 임베딩 {}개, 메타데이터만 갱신 {}개, 변경 없음 {}개", changed.size(),
+			metadataChanged.size(), documents.size() - hashes.size());
+	}
+
+	/**
+	 * embedding-batch-size 개씩 묶어 한 번의 Ollama 요청으로 임베딩한다.
+	 * 배치들은 가상 스레드에서 동시에 보내되, 진행 중인 요청 수는 embedding-concurrency 로 제한한다.
+	 *
+	 * @return documents 와 같은 순서의 임베딩
+	 */
+	private List<float[]> embed(List<Document> documents) {
+		List<CompletableFuture<List<float[]>>> batches = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int from = 0; from < documents.size(); from += embeddingBatchSize) {
+				List<String> texts = documents.subList(from, Math.min(from + embeddingBatchSize, documents.size()))
+					.stream()
+					.map(Document::getText)
+					.toList();
+				batches.add(CompletableFuture.supplyAsync(() -> embedBatch(texts), executor));
+			}
+
+			List<float[]> embeddings = new ArrayList<>(documents.size());
+			for (CompletableFuture<List<float[]>> batch : batches) {
+				embeddings.addAll(batch.join());
+			}
+			return embeddings;
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof RuntimeException cause ? cause : e;
+		}
+	}
+
+	private List<float[]> embedBatch(List<String> texts) {
+		embeddingPermits.acquireUninterruptibly();
+		try {
+			ollamaRateLimiter.acquire();
+			List<float[]> embeddings = embeddingModel.embed(texts);
+			if (embeddings.size() != texts.size()) {
+				throw new IllegalStateException(
+					"임베딩 결과 수 불일치 : 요청 " + texts.size() + "개, 응답 " + embeddings.size() + "개");
+			}
+			return embeddings;
+		} finally {
+			embeddingPermits.release();
+		}
+	}
+
+	private static String sha256(String value) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash, 0, 16);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 }
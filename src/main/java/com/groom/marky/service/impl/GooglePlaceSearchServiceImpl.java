@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -17,6 +18,8 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.marky.common.BackoffRetry;
+import com.groom.marky.common.TokenBucketRateLimiter;
 import com.groom.marky.common.constant.GooglePlaceType;
 import com.groom.marky.domain.request.Circle;
 import com.groom.marky.domain.request.LocationRestriction;
@@ -94,14 +97,17 @@ public class GooglePlaceSearchServiceImpl implements GooglePlaceSearchService {
 
 	private final RestTemplate restTemplate;
 	private final ObjectMapper objectMapper;
+	private final TokenBucketRateLimiter googleRateLimiter;
 
 	@Autowired
 	public GooglePlaceSearchServiceImpl(RestTemplate restTemplate,
 		ObjectMapper objectMapper,
-		@Value("${GOOGLE_API_KEY}") String apiKey) {
+		@Value("${GOOGLE_API_KEY}") String apiKey,
+		@Qualifier("googleRateLimiter") TokenBucketRateLimiter googleRateLimiter) {
 		this.restTemplate = restTemplate;
 		this.objectMapper = objectMapper;
 		this.apiKey = apiKey;
+		this.googleRateLimiter = googleRateLimiter;
 	}
 
 	@Override
@@ -122,9 +128,7 @@ public class GooglePlaceSearchServiceImpl implements GooglePlaceSearchService {
 		// 요청 생성
 		HttpEntity<PlacesTextRequest> httpEntity = new HttpEntity<>(request, headers);
 
-		GooglePlacesApiResponse response = restTemplate.exchange(getGoogleSearchTextUri(), HttpMethod.POST,
-			httpEntity,
-			GooglePlacesApiResponse.class).getBody();
+		GooglePlacesApiResponse response = postSearchText(httpEntity);
 
 		// 응답 담기
 		if (response != null && response.places() != null) {
@@ -147,9 +151,7 @@ public class GooglePlaceSearchServiceImpl implements GooglePlaceSearchService {
 			request = buildRequest(text, type, rect, nextPageToken);
 			httpEntity = new HttpEntity<>(request, headers);
 
-			response = restTemplate.exchange(getGoogleSearchTextUri(), HttpMethod.POST,
-				httpEntity,
-				GooglePlacesApiResponse.class).getBody();
+			response = postSearchText(httpEntity);
 
 			// 응답 담기
 			if (response != null && response.places() != null) {
@@ -189,9 +191,7 @@ public class GooglePlaceSearchServiceImpl implements GooglePlaceSearchService {
 			// 요청 생성
 			HttpEntity<PlacesTextRequest> httpEntity = new HttpEntity<>(request, headers);
 
-			GooglePlacesApiResponse response = restTemplate.exchange(getGoogleSearchTextUri(), HttpMethod.POST,
-				httpEntity,
-				GooglePlacesApiResponse.class).getBody();
+			GooglePlacesApiResponse response = postSearchText(httpEntity);
 
 			// 응답 담기
 			if (response != null && response.places() != null) {
@@ -202,8 +202,7 @@ public class GooglePlaceSearchServiceImpl implements GooglePlaceSearchService {
 			while (nextPageToken != null) {
 				request = buildRequest(text, rect, nextPageToken);
 				httpEntity = new HttpEntity<>(request, headers);
-				response = restTemplate.exchange(getGoogleSearchTextUri(), HttpMethod.POST, httpEntity,
-					GooglePlacesApiResponse.class).getBody();
+				response = postSearchText(httpEntity);
 
 				if (response != null) {
 					if (response.places() != null && !response.places().isEmpty()) {
@@ -261,8 +260,11 @@ public class GooglePlaceSearchServiceImpl implements GooglePlaceSearchService {
 		// 요청 생성
 		HttpEntity<PlacesNearbyRequest> httpEntity = new HttpEntity<>(request, headers);
 
-		return restTemplate.exchange(getGoogleSearchNearByUri(), HttpMethod.POST, httpEntity,
-			GooglePlacesApiResponse.class).getBody();
+		return BackoffRetry.onTooManyRequests(googleRateLimiter.getName(), () -> {
+			googleRateLimiter.acquire();
+			return restTemplate.exchange(getGoogleSearchNearByUri(), HttpMethod.POST, httpEntity,
+				GooglePlacesApiResponse.class).getBody();
+		});
 	}
 
 	@Override
@@ -281,8 +283,7 @@ public class GooglePlaceSearchServiceImpl implements GooglePlaceSearchService {
 		// 요청 생성
 		HttpEntity<PlacesTextRequest> httpEntity = new HttpEntity<>(request, headers);
 		log.info("httpEntity : {}", httpEntity);
-		GooglePlacesApiResponse response = restTemplate.exchange(getGoogleSearchTextUri(), HttpMethod.POST, httpEntity,
-			GooglePlacesApiResponse.class).getBody();
+		GooglePlacesApiResponse response = postSearchText(httpEntity);
 		String result = (response != null && response.places() != null && !response.places().isEmpty())
 			? response.places().getFirst().id()
 			: null;
@@ -290,6 +291,15 @@ public class GooglePlaceSearchServiceImpl implements GooglePlaceSearchService {
 		return result;
 	}
 
+	// 모든 searchText 호출은 속도 제한 후 요청, 429 응답 시 백오프 재시도
+	private GooglePlacesApiResponse postSearchText(HttpEntity<PlacesTextRequest> httpEntity) {
+		return BackoffRetry.onTooManyRequests(googleRateLimiter.getName(), () -> {
+			googleRateLimiter.acquire();
+			return restTemplate.exchange(getGoogleSearchTextUri(), HttpMethod.POST, httpEntity,
+				GooglePlacesApiResponse.class).getBody();
+		});
+	}
+
 	private URI getGoogleSearchTextUri() {
 		return UriComponentsBuilder.fromUriString(GOOGLE_API_BASE + SEARCH_PATH)
 			.encode(StandardCharsets.UTF_8)
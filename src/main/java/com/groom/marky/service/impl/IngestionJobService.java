@@ -0,0 +1,300 @@
+package com.groom.marky.service.impl;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.groom.marky.common.RedisKeyParser;
+import com.groom.marky.domain.response.IngestionJobProgress;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 재개 가능한 수집 작업 저장소.
+ * 작업 단위(item)는 pending(list) → inflight(zset, 점유 만료 시각) → done(set) / failed(hash) 로 이동한다.
+ * 점유(claim)는 Lua 스크립트로 원자적으로 처리하므로 여러 노드가 같은 작업을 나눠 처리할 수 있고,
+ * 처리 중 중단된 노드의 item 은 점유 만료 후 다음 claim 때 pending 으로 되돌아간다.
+ */
+@Slf4j
+@Service
+public class IngestionJobService {
+
+	private static final String META = "meta";
+	private static final String PENDING = "pending";
+	private static final String INFLIGHT = "inflight";
+	private static final String DONE = "done";
+	private static final String FAILED = "failed";
+	private static final String ATTEMPTS = "attempts";
+
+	private static final String CREATED_AT = "createdAt";
+	private static final String RESUMED_AT = "resumedAt";
+	private static final String TOTAL = "total";
+	private static final String FINISHED_AT_RESUME = "finishedAtResume";
+
+	private static final int PUSH_CHUNK_SIZE = 1000;
+
+	// KEYS : pending, inflight / ARGV : now, leaseExpiresAt, count
+	private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+		local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+		for _, item in ipairs(expired) do
+			redis.call('ZREM', KEYS[2], item)
+			redis.call('RPUSH', KEYS[1], item)
+		end
+		local claimed = {}
+		for i = 1, tonumber(ARGV[3]) do
+			local item = redis.call('LPOP', KEYS[1])
+			if not item then break end
+			redis.call('ZADD', KEYS[2], ARGV[2], item)
+			claimed[#claimed + 1] = item
+		end
+		return claimed
+		""", List.class);
+
+	// KEYS : inflight, pending, done, attempts / ARGV : item
+	private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+		if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+			redis.call('LREM', KEYS[2], 0, ARGV[1])
+		end
+		redis.call('HDEL', KEYS[4], ARGV[1])
+		return redis.call('SADD', KEYS[3], ARGV[1])
+		""", Long.class);
+
+	// KEYS : inflight, pending, attempts, failed / ARGV : item, maxAttempts, reason
+	private static final RedisScript<Long> FAIL_SCRIPT = RedisScript.of("""
+		if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+			return 0
+		end
+		local attempts = redis.call('HINCRBY', KEYS[3], ARGV[1], 1)
+		if attempts < tonumber(ARGV[2]) then
+			redis.call('RPUSH', KEYS[2], ARGV[1])
+		else
+			redis.call('HSET', KEYS[4], ARGV[1], ARGV[3])
+		end
+		return attempts
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final long leaseMillis;
+	private final int maxAttempts;
+
+	@Autowired
+	public IngestionJobService(StringRedisTemplate redisTemplate,
+		@Value("${ingestion.job.lease}") long leaseMillis,
+		@Value("${ingestion.job.max-attempts}") int maxAttempts) {
+		this.redisTemplate = redisTemplate;
+		this.leaseMillis = leaseMillis;
+		this.maxAttempts = maxAttempts;
+	}
+
+	/**
+	 * 진행 중인 작업이 있으면 이어서 처리하고, 없거나 이미 끝난 작업이면 새로 만든다.
+	 * itemsSupplier 는 새로 만들 때만 호출되므로 격자 탐색처럼 비싼 준비 작업을 재개 시 반복하지 않는다.
+	 */
+	public void start(String jobId, Supplier<? extends Collection<String>> itemsSupplier) {
+		HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+		String metaKey = key(jobId, META);
+		Map<String, String> meta = hash.entries(metaKey);
+		long now = System.currentTimeMillis();
+
+		if (!meta.isEmpty()) {
+			if (!meta.containsKey(TOTAL)) {
+				long createdAt = Long.parseLong(meta.getOrDefault(CREATED_AT, "0"));
+				if (now - createdAt < leaseMillis) {
+					log.info("[IngestionJob] {} 다른 노드에서 작업 준비 중", jobId);
+					return;
+				}
+				log.warn("[IngestionJob] {} 작업 준비 중 중단됨, 새로 생성", jobId);
+				reset(jobId);
+			} else if (!isFinished(jobId)) {
+				Map<String, String> resume = new HashMap<>();
+				resume.put(RESUMED_AT, String.valueOf(now));
+				resume.put(FINISHED_AT_RESUME, String.valueOf(finishedCount(jobId)));
+				hash.putAll(metaKey, resume);
+				log.info("[IngestionJob] {} 작업 재개, 남은 작업 {}개", jobId, remainingCount(jobId));
+				return;
+			} else {
+				log.info("[IngestionJob] {} 이전 작업 완료됨, 새로 시작", jobId);
+				reset(jobId);
+			}
+		}
+
+		// 여러 노드가 동시에 시작해도 한 노드만 item 을 생성
+		if (!Boolean.TRUE.equals(hash.putIfAbsent(metaKey, CREATED_AT, String.valueOf(now)))) {
+			log.info("[IngestionJob] {} 다른 노드에서 작업 생성 중", jobId);
+			return;
+		}
+
+		List<String> items = new ArrayList<>(itemsSupplier.get());
+		String pendingKey = key(jobId, PENDING);
+		for (int from = 0; from < items.size(); from += PUSH_CHUNK_SIZE) {
+			redisTemplate.opsForList()
+				.rightPushAll(pendingKey, items.subList(from, Math.min(items.size(), from + PUSH_CHUNK_SIZE)));
+		}
+
+		Map<String, String> created = new HashMap<>();
+		created.put(TOTAL, String.valueOf(items.size()));
+		created.put(RESUMED_AT, String.valueOf(now));
+		created.put(FINISHED_AT_RESUME, "0");
+		hash.putAll(metaKey, created);
+		log.info("[IngestionJob] {} 작업 생성, 총 {}개", jobId, items.size());
+	}
+
+	/**
+	 * 최대 count 개의 item 을 점유한다. 점유 만료 시각이 지난 item 은 먼저 pending 으로 되돌린다.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<String> claim(String jobId, int count) {
+		long now = System.currentTimeMillis();
+		List<String> claimed = redisTemplate.execute(CLAIM_SCRIPT,
+			List.of(key(jobId, PENDING), key(jobId, INFLIGHT)),
+			String.valueOf(now), String.valueOf(now + leaseMillis), String.valueOf(count));
+		return claimed == null ? List.of() : claimed;
+	}
+
+	/**
+	 * 점유 중인 item 의 만료 시각을 지금부터 다시 lease 만큼으로 늘린다.
+	 * 점유 후 대기열에서 기다리다 실제 처리를 시작할 때 호출해, 처리 도중 다른 노드가 다시 점유하지 않도록 한다.
+	 * 이미 만료되어 pending 으로 돌아간 item 은 다시 점유하지 않는다 (ZADD XX).
+	 */
+	public void renew(String jobId, String item) {
+		redisTemplate.opsForZSet().addIfPresent(key(jobId, INFLIGHT), item, System.currentTimeMillis() + leaseMillis);
+	}
+
+	public void complete(String jobId, String item) {
+		redisTemplate.execute(COMPLETE_SCRIPT,
+			List.of(key(jobId, INFLIGHT), key(jobId, PENDING), key(jobId, DONE), key(jobId, ATTEMPTS)),
+			item);
+	}
+
+	/**
+	 * 최대 시도 횟수 전까지는 pending 뒤로 다시 넣고, 이후에는 failed 에 사유와 함께 기록한다.
+	 */
+	public void fail(String jobId, String item, String reason) {
+		redisTemplate.execute(FAIL_SCRIPT,
+			List.of(key(jobId, INFLIGHT), key(jobId, PENDING), key(jobId, ATTEMPTS), key(jobId, FAILED)),
+			item, String.valueOf(maxAttempts), reason == null ? "" : reason);
+	}
+
+	/**
+	 * 남은 item 이 없을 때까지 batchSize 개씩 점유해 순서대로 처리한다.
+	 *
+	 * @return 이번 실행에서 성공한 item 수
+	 */
+	public int process(String jobId, int batchSize, Consumer<String> worker) {
+		int succeeded = 0;
+		List<String> batch;
+		while (!(batch = claim(jobId, batchSize)).isEmpty()) {
+			for (String item : batch) {
+				try {
+					worker.accept(item);
+					complete(jobId, item);
+					succeeded++;
+				} catch (RuntimeException e) {
+					log.warn("[IngestionJob] {} 처리 실패 item : {}, message : {}", jobId, item, e.getMessage());
+					fail(jobId, item, e.getMessage());
+				}
+			}
+		}
+		return succeeded;
+	}
+
+	public Optional<IngestionJobProgress> progress(String jobId) {
+		HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+		Map<String, String> meta = hash.entries(key(jobId, META));
+		if (meta.isEmpty()) {
+			return Optional.empty();
+		}
+
+		long pending = size(redisTemplate.opsForList().size(key(jobId, PENDING)));
+		long inFlight = size(redisTemplate.opsForZSet().zCard(key(jobId, INFLIGHT)));
+		long done = size(redisTemplate.opsForSet().size(key(jobId, DONE)));
+		long failed = size(redisTemplate.opsForHash().size(key(jobId, FAILED)));
+		long createdAt = Long.parseLong(meta.getOrDefault(CREATED_AT, "0"));
+
+		IngestionJobProgress.IngestionJobProgressBuilder builder = IngestionJobProgress.builder()
+			.jobId(jobId)
+			.pending(pending)
+			.inFlight(inFlight)
+			.done(done)
+			.failed(failed)
+			.createdAt(toLocalDateTime(createdAt));
+
+		if (!meta.containsKey(TOTAL)) {
+			return Optional.of(builder.status(IngestionJobProgress.Status.PREPARING).build());
+		}
+
+		long total = Long.parseLong(meta.get(TOTAL));
+		long finished = done + failed;
+		long remaining = pending + inFlight;
+		long resumedAt = Long.parseLong(meta.getOrDefault(RESUMED_AT, String.valueOf(createdAt)));
+		long finishedSinceResume = finished - Long.parseLong(meta.getOrDefault(FINISHED_AT_RESUME, "0"));
+		long elapsedMillis = System.currentTimeMillis() - resumedAt;
+
+		builder.total(total)
+			.percent(total == 0 ? 100.0 : Math.round(finished * 1000.0 / total) / 10.0)
+			.resumedAt(toLocalDateTime(resumedAt));
+
+		if (remaining == 0) {
+			return Optional.of(builder
+				.status(failed > 0 ? IngestionJobProgress.Status.COMPLETED_WITH_FAILURES
+					: IngestionJobProgress.Status.COMPLETED)
+				.etaSeconds(0L)
+				.build());
+		}
+
+		builder.status(IngestionJobProgress.Status.RUNNING);
+		if (finishedSinceResume > 0 && elapsedMillis > 0) {
+			double perMillis = (double) finishedSinceResume / elapsedMillis;
+			builder.throughputPerMinute(Math.round(perMillis * 60_000 * 10) / 10.0)
+				.etaSeconds(Math.round(remaining / perMillis / 1000));
+		}
+		return Optional.of(builder.build());
+	}
+
+	public void reset(String jobId) {
+		redisTemplate.delete(List.of(
+			key(jobId, META), key(jobId, PENDING), key(jobId, INFLIGHT),
+			key(jobId, DONE), key(jobId, FAILED), key(jobId, ATTEMPTS)));
+	}
+
+	private boolean isFinished(String jobId) {
+		return remainingCount(jobId) == 0;
+	}
+
+	private long remainingCount(String jobId) {
+		return size(redisTemplate.opsForList().size(key(jobId, PENDING)))
+			+ size(redisTemplate.opsForZSet().zCard(key(jobId, INFLIGHT)));
+	}
+
+	private long finishedCount(String jobId) {
+		return size(redisTemplate.opsForSet().size(key(jobId, DONE)))
+			+ size(redisTemplate.opsForHash().size(key(jobId, FAILED)));
+	}
+
+	private static long size(Long size) {
+		return size == null ? 0 : size;
+	}
+
+	private static LocalDateTime toLocalDateTime(long epochMillis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+	}
+
+	private static String key(String jobId, String part) {
+		return RedisKeyParser.getJobKey(jobId, part);
+	}
+}
@@ -2,16 +2,25 @@ package com.groom.marky.service.impl;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayDeque;
+import java.time.Duration;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.ToIntFunction;
 
 import com.groom.marky.domain.response.GooglePlacesApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -25,10 +34,15 @@ import org.springframework.web.util.UriComponentsBuilder;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.marky.common.BackoffRetry;
+import com.groom.marky.common.QuadtreeSubdivider;
+import com.groom.marky.common.TokenBucketRateLimiter;
+import com.groom.marky.common.TwoTierCache;
 import com.groom.marky.domain.request.Rectangle;
 import com.groom.marky.common.constant.KakaoMapCategoryGroupCode;
 import com.groom.marky.service.KakaoPlaceSearchService;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -44,24 +58,53 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 	private final RestTemplate restTemplate;
 	private final ObjectMapper objectMapper;
 	private final GooglePlaceSearchServiceImpl googlePlaceSearchService;
+	private final TokenBucketRateLimiter kakaoRateLimiter;
+	private final TokenBucketRateLimiter kakaoInteractiveRateLimiter;
+	private final int subdivisionConcurrency;
+
+	// 장소명(+카테고리) → 위경도 캐시
+	private final TwoTierCache<Map<String, Double>> geocodeCache;
+	private static final String GEOCODE_CACHE = "geocode";
+	private static final String KEYWORD_ONLY = "keyword";
 
 
 	private static final String KEYWORD_SEARCH_API_URI = "https://dapi.kakao.com/v2/local/search/keyword.json";
 	private static final String CATEGORY_SEARCH_API_URI = "https://dapi.kakao.com/v2/local/search/category.json";
 	private static final String ACCURACY_SORT = "accuracy";
 	private static final String DISTANCE_SORT = "distance";
+	// 한 격자에서 페이지 조회로 모두 가져올 수 있는 장소 수, 넘으면 4분할
+	private static final int MAX_RECT_COUNT = 60;
 
 	@Autowired
 	public KakaoPlaceSearchServiceImpl(
             RestTemplate restTemplate,
             ObjectMapper objectMapper,
             @Value("${KAKAO_REST_API_KEY}") String apiKey,
-			GooglePlaceSearchServiceImpl googlePlaceSearchService // 이렇게 주입하면 되는군
+			GooglePlaceSearchServiceImpl googlePlaceSearchService, // 이렇게 주입하면 되는군
+			@Qualifier("kakaoRateLimiter") TokenBucketRateLimiter kakaoRateLimiter,
+			@Qualifier("kakaoInteractiveRateLimiter") TokenBucketRateLimiter kakaoInteractiveRateLimiter,
+			StringRedisTemplate redisTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${cache.geocode.maximum-size}") long geocodeCacheSize,
+			@Value("${cache.geocode.ttl}") long geocodeTtl,
+			@Value("${cache.geocode.negative-ttl}") long geocodeNegativeTtl,
+			@Value("${ingestion.subdivision-concurrency}") int subdivisionConcurrency
 	) {
 		this.restTemplate = restTemplate;
 		this.objectMapper = objectMapper;
 		this.apiKey = apiKey;
 		this.googlePlaceSearchService = googlePlaceSearchService;
+		this.kakaoRateLimiter = kakaoRateLimiter;
+		this.kakaoInteractiveRateLimiter = kakaoInteractiveRateLimiter;
+		this.subdivisionConcurrency = subdivisionConcurrency;
+
+		this.geocodeCache = new TwoTierCache<>(GEOCODE_CACHE, redisTemplate, meterRegistry,
+			geocodeCacheSize, Duration.ofMillis(geocodeTtl), Duration.ofMillis(geocodeNegativeTtl),
+			location -> location.get("lat") + "," + location.get("lon"),
+			value -> {
+				String[] latLon = value.split(",");
+				return Map.of("lat", Double.parseDouble(latLon[0]), "lon", Double.parseDouble(latLon[1]));
+			});
 
 		// 한 번만 생성해서 재사용 가능한 final 필드로 초기화
 		HttpHeaders headers = new HttpHeaders();
@@ -87,7 +130,7 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 
 				// 요청 -> 응답 ( 단순 문자열 )
 				ResponseEntity<String> response =
-					restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
+					exchange(uri);
 
 				JsonNode root = objectMapper.readTree(response.getBody());
 				JsonNode documents = root.path("documents");
@@ -119,30 +162,27 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 	@Override
 	public Map<String, String> searchAll(List<Rectangle> boxes, KakaoMapCategoryGroupCode code) {
 
-		HashMap<String, String> result = new HashMap<>();
-		ArrayDeque<Rectangle> queue = new ArrayDeque<>(boxes);
-
-		// 개별 박스 큐
-		while (!queue.isEmpty()) {
-
-			Rectangle box = queue.poll();
-			String rect = box.toString();
-
-			int total = getTotalCount(rect, code);
-
-			if (total == 0) {
-				continue;
-			}
-
-			if (total > 60) {
-				// 분리
-				queue.addAll(box.splitGrid());
-				continue;
-			}
-
-			Map<String, String> searchResult = search(rect, code);
+		List<QuadtreeSubdivider.Leaf> leaves = subdivide(boxes, rect -> getTotalCount(rect.toString(), code));
+
+		// 격자별 장소 조회도 동시에 수행하고, 결과는 격자 순서대로 합침
+		List<CompletableFuture<Map<String, String>>> searches;
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			Semaphore permits = new Semaphore(subdivisionConcurrency);
+			searches = leaves.stream()
+				.map(leaf -> CompletableFuture.supplyAsync(() -> {
+					permits.acquireUninterruptibly();
+					try {
+						return search(leaf.rect().toString(), code);
+					} finally {
+						permits.release();
+					}
+				}, executor))
+				.toList();
+		}
 
-			result.putAll(searchResult);
+		HashMap<String, String> result = new HashMap<>();
+		for (CompletableFuture<Map<String, String>> search : searches) {
+			result.putAll(search.join());
 		}
 		return result;
 	}
@@ -160,18 +200,10 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 		HashMap<String, Double> result = new HashMap<>();
 
 		try {
-			URI uri = buildKeywordUri(keyword);
-
-			ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
-
-			String body = response.getBody();
-			JsonNode root = objectMapper.readTree(body);
-			JsonNode documents = root.path("documents");
-			JsonNode firstNode = documents.get(0);
-
-			result.put("lat", Double.parseDouble(firstNode.get("y").textValue()));
-			result.put("lon", Double.parseDouble(firstNode.get("x").textValue()));
-
+			Map<String, Double> location = geocodeCache.get(geocodeKey(keyword, KEYWORD_ONLY), () -> fetchKeyword(keyword));
+			if (location != null) {
+				result.putAll(location);
+			}
 		} catch (Exception e) {
 			log.info("[KakaoPlaceSearchServiceImpl] search 예외 발생  keyword : {}, message : {} ", keyword, e.getMessage());
 		}
@@ -179,6 +211,26 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 
 	}
 
+	private Map<String, Double> fetchKeyword(String keyword) {
+		URI uri = buildKeywordUri(keyword);
+
+		ResponseEntity<String> response = exchangeInteractive(uri);
+
+		try {
+			JsonNode documents = objectMapper.readTree(response.getBody()).path("documents");
+			if (!documents.isArray() || documents.isEmpty()) {
+				return null;
+			}
+
+			JsonNode firstNode = documents.get(0);
+			return Map.of(
+				"lat", Double.parseDouble(firstNode.get("y").textValue()),
+				"lon", Double.parseDouble(firstNode.get("x").textValue()));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("카카오 응답 파싱 실패", e);
+		}
+	}
+
 	@Override
 	public int getTotalCount(String rect, KakaoMapCategoryGroupCode code) {
 
@@ -186,7 +238,7 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 
 		try {
 			URI uri = buildCategoryCountUri(rect, code);
-			ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
+			ResponseEntity<String> response = exchange(uri);
 
 			JsonNode meta = objectMapper.readTree(response.getBody()).path("meta");
 			result = meta.path("total_count").asInt();
@@ -199,52 +251,20 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 	@Override
 	public Set<Rectangle> getRects(List<Rectangle> rects, KakaoMapCategoryGroupCode code) {
 
-		Set<Rectangle> result = new HashSet<>();
-		ArrayDeque<Rectangle> queue = new ArrayDeque<>(rects);
-
-		// 개별 박스 큐
-		while (!queue.isEmpty()) {
-			Rectangle rect = queue.poll();
-			int total = getTotalCount(rect.toString(), code);
-
-			if (total == 0) {
-				continue;
-			}
-
-			if (total > 60) {
-				// 분리
-				queue.addAll(rect.splitGrid());
-				continue;
-			}
-
-			log.info("rect : {}, total : {}", rect, total);
-			result.add(rect);
+		Set<Rectangle> result = new LinkedHashSet<>();
+		for (QuadtreeSubdivider.Leaf leaf : subdivide(rects, rect -> getTotalCount(rect.toString(), code))) {
+			log.info("rect : {}, total : {}", leaf.rect(), leaf.count());
+			result.add(leaf.rect());
 		}
 		return result;
 	}
 
 	@Override
 	public GooglePlacesApiResponse getRects(List<Rectangle> rects, String keyword) {
-		Set<Rectangle> kakaoResult = new HashSet<>();
-		ArrayDeque<Rectangle> queue = new ArrayDeque<>(rects);
-
-		// 개별 박스 큐
-		while (!queue.isEmpty()) {
-			Rectangle rect = queue.poll();
-			int total = getTotalCount(rect.toString(), keyword);
-			log.info("rect : {}, total : {}", rect, total);
-
-			if (total == 0) {
-				continue;
-			}
-
-			if (total > 60) {
-				// 분리
-				queue.addAll(rect.splitGrid());
-				continue;
-			}
-
-			kakaoResult.add(rect);
+		Set<Rectangle> kakaoResult = new LinkedHashSet<>();
+		for (QuadtreeSubdivider.Leaf leaf : subdivide(rects, rect -> getTotalCount(rect.toString(), keyword))) {
+			log.info("rect : {}, total : {}", leaf.rect(), leaf.count());
+			kakaoResult.add(leaf.rect());
 		}
 		// Use GooglePlacesApiResponse.Place instead of raw String
 		return googlePlaceSearchService.search(keyword, kakaoResult);
@@ -252,6 +272,23 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 	@Override
 	public Map<String, Double> searchLocation(String keyword, String category_code) {
 		Map<String, Double> result = new HashMap<>();
+
+		try {
+			String category = category_code == null || category_code.isBlank() ? "null" : category_code;
+			Map<String, Double> location = geocodeCache.get(geocodeKey(keyword, category),
+				() -> fetchLocation(keyword, category_code));
+			if (location != null) {
+				result.putAll(location);
+			}
+		} catch (Exception e) {
+			log.warn("[KakaoPlaceSearchServiceImpl] search 예외 발생: keyword={}, message={}", keyword, e.getMessage());
+		}
+
+		return result;
+	}
+
+	// 검색 결과가 없으면 null 반환 (캐시에 결과 없음으로 저장됨)
+	private Map<String, Double> fetchLocation(String keyword, String category_code) {
 		JsonNode finalNode = null;
 
 		try {
@@ -263,7 +300,7 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 
 					KakaoMapCategoryGroupCode categoryCode = KakaoMapCategoryGroupCode.valueOf(category_code.toUpperCase());
 					URI uri = buildLocationChangeKeywordUri(keyword, categoryCode);
-					ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
+					ResponseEntity<String> response = exchangeInteractive(uri);
 					JsonNode documents = objectMapper.readTree(response.getBody()).path("documents");
 
 					if (documents.isArray() && !documents.isEmpty() && !documents.get(0).isNull()) {
@@ -274,7 +311,7 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 					}
 				} catch (IllegalArgumentException iae) {
 					log.warn("유효하지 않은 category: {}", category_code);
-					return result;
+					return null;
 				}
 			} else {
 				needFallback = true;
@@ -284,7 +321,7 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 			if (finalNode == null && needFallback) {
 				log.info("Fallback: keyword search");
 				URI uri = buildKeywordUri(keyword);
-				ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
+				ResponseEntity<String> response = exchangeInteractive(uri);
 				JsonNode documents = objectMapper.readTree(response.getBody()).path("documents");
 
 				if (documents.isArray() && !documents.isEmpty()) {
@@ -292,46 +329,68 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 					log.info("Fallback 검색 성공 → 좌표 : {}, {}", finalNode.path("x"), finalNode.path("y"));
 				}
 			}
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("카카오 응답 파싱 실패", e);
+		}
 
-			if (finalNode != null) {
-				result.put("lat", finalNode.path("y").asDouble());
-				result.put("lon", finalNode.path("x").asDouble());
-			}
+		if (finalNode == null) {
+			return null;
+		}
+		return Map.of("lat", finalNode.path("y").asDouble(), "lon", finalNode.path("x").asDouble());
+	}
 
-		} catch (Exception e) {
-			log.warn("[KakaoPlaceSearchServiceImpl] search 예외 발생: keyword={}, message={}", keyword, e.getMessage());
+	// 수집 / 격자 분할용 카카오 API 호출은 속도 제한 후 요청, 429 응답 시 백오프 재시도
+	private ResponseEntity<String> exchange(URI uri) {
+		return BackoffRetry.onTooManyRequests(kakaoRateLimiter.getName(), () -> {
+			kakaoRateLimiter.acquire();
+			return restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
+		});
+	}
+
+	// 채팅 요청 중 위치 검색은 마감 시간 안에 끝나야 하므로 대기 / 재시도 없이 바로 실패 (결과는 캐싱되지 않음)
+	private ResponseEntity<String> exchangeInteractive(URI uri) {
+		if (!kakaoInteractiveRateLimiter.tryAcquire()) {
+			throw new IllegalStateException("카카오 위치 검색 호출 한도 초과");
 		}
+		return restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
+	}
 
-		return result;
+	private String geocodeKey(String keyword, String category) {
+		return category.toUpperCase(Locale.ROOT) + ":" + TwoTierCache.normalizeKey(keyword);
 	}
 
 
 	@Override
 	public Map<Rectangle, Integer> getRectsMap(List<Rectangle> rects, KakaoMapCategoryGroupCode code){
-		Map<Rectangle, Integer> result = new HashMap<>();
-		ArrayDeque<Rectangle> queue = new ArrayDeque<>(rects);
-
-		// 개별 박스 큐
-		while (!queue.isEmpty()) {
-			Rectangle rect = queue.poll();
-			int total = getTotalCount(rect.toString(), code);
-
-			if (total == 0) {
-				continue;
-			}
-
-			if (total > 60) {
-				// 분리
-				queue.addAll(rect.splitGrid());
-				continue;
-			}
-
-			log.info("rect : {}, total : {}", rect, total);
-			result.put(rect, total);
+		Map<Rectangle, Integer> result = new LinkedHashMap<>();
+		for (QuadtreeSubdivider.Leaf leaf : subdivide(rects, rect -> getTotalCount(rect.toString(), code))) {
+			log.info("rect : {}, total : {}", leaf.rect(), leaf.count());
+			result.put(leaf.rect(), leaf.count());
 		}
 		return result;
 	}
 
+	@Override
+	public QuadtreeSubdivider.Tree refreshRects(List<Rectangle> rects, KakaoMapCategoryGroupCode code,
+		Map<Rectangle, Integer> previous) {
+		long start = System.currentTimeMillis();
+		QuadtreeSubdivider.Tree tree = QuadtreeSubdivider.refresh(rects, rect -> getTotalCount(rect.toString(), code),
+			MAX_RECT_COUNT, subdivisionConcurrency, previous);
+		log.info("[KakaoPlaceSearchServiceImpl] {} 격자 갱신 완료 : {}개, 조회 {}회, {} ms", code, tree.leaves().size(),
+			tree.calls(), System.currentTimeMillis() - start);
+		return tree;
+	}
+
+	// 사분면을 동시에 탐색, 호출 속도는 exchange() 의 kakaoRateLimiter 가 제한
+	private List<QuadtreeSubdivider.Leaf> subdivide(List<Rectangle> rects, ToIntFunction<Rectangle> counter) {
+		long start = System.currentTimeMillis();
+		List<QuadtreeSubdivider.Leaf> leaves = QuadtreeSubdivider.subdivide(rects, counter, MAX_RECT_COUNT,
+			subdivisionConcurrency);
+		log.info("[KakaoPlaceSearchServiceImpl] 격자 분할 완료 : {}개, {} ms", leaves.size(),
+			System.currentTimeMillis() - start);
+		return leaves;
+	}
+
 	@Override
 	public int getTotalCount(String rect, String keyword) {
 
@@ -339,7 +398,7 @@ public class KakaoPlaceSearchServiceImpl implements KakaoPlaceSearchService {
 
 		try {
 			URI uri = buildKeywordUri(rect, keyword);
-			ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
+			ResponseEntity<String> response = exchange(uri);
 
 			JsonNode meta = objectMapper.readTree(response.getBody()).path("meta");
 			result = meta.path("total_count").asInt();
@@ -0,0 +1,340 @@
+package com.groom.marky.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.groom.marky.domain.request.Rectangle;
+import com.groom.marky.domain.response.GooglePlacesApiResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 격자(Rectangle) 단위 장소 수집 파이프라인.
+ * 조회(fetch) 단계와 임베딩/저장(store) 단계를 나눠, 한 격자를 저장하는 동안 다른 격자를 조회한다.
+ * 단계별 동시 실행 수와 전체 진행 중 격자 수를 제한하고, 외부 API 속도는 각 서비스의 rate limiter 가 제한한다.
+ * 수집 작업은 submit 으로 백그라운드에서 실행하고, 진행 상태는 IngestionJobService 로 조회한다.
+ */
+@Slf4j
+@Service
+public class PlaceIngestionPipeline implements DisposableBean {
+
+	private static final int PROGRESS_LOG_INTERVAL = 50;
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final int fetchConcurrency;
+	private final int storeConcurrency;
+	private final int maxInFlight;
+	private final IngestionJobService ingestionJobService;
+	// 이 노드에서 실행 중인 작업. 같은 작업을 중복 실행하지 않도록 함
+	private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+	@Autowired
+	public PlaceIngestionPipeline(
+		IngestionJobService ingestionJobService,
+		@Value("${ingestion.fetch-concurrency}") int fetchConcurrency,
+		@Value("${ingestion.store-concurrency}") int storeConcurrency,
+		@Value("${ingestion.max-in-flight}") int maxInFlight) {
+		this.fetchConcurrency = fetchConcurrency;
+		this.storeConcurrency = storeConcurrency;
+		this.maxInFlight = maxInFlight;
+		this.ingestionJobService = ingestionJobService;
+	}
+
+	public record Result(int total, int succeeded, int failed) {
+	}
+
+	/**
+	 * 수집 작업을 백그라운드에서 실행하고 바로 반환한다. 이 노드에서 같은 작업이 실행 중이면 새로 시작하지 않는다.
+	 *
+	 * @param job runJob 호출을 포함한 수집 작업
+	 * @return 새로 시작했으면 true
+	 */
+	public boolean submit(String jobId, Runnable job) {
+		if (!runningJobs.add(jobId)) {
+			log.info("[PlaceIngestionPipeline] {} 작업이 이미 실행 중", jobId);
+			return false;
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					job.run();
+				} catch (RuntimeException e) {
+					log.error("[PlaceIngestionPipeline] {} 작업 실패 : {}", jobId, e.getMessage(), e);
+				} finally {
+					runningJobs.remove(jobId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			runningJobs.remove(jobId);
+			throw e;
+		}
+		return true;
+	}
+
+	/**
+	 * 모든 격자의 처리가 끝날 때까지 대기한다. 한 격자의 실패는 다른 격자 처리에 영향을 주지 않는다.
+	 *
+	 * @param name    로그용 작업 이름
+	 * @param fetcher 격자 → 장소 조회
+	 * @param storer  조회 결과 임베딩 / 저장
+	 */
+	public Result run(String name, Collection<Rectangle> rects,
+		Function<Rectangle, GooglePlacesApiResponse> fetcher,
+		BiConsumer<Rectangle, GooglePlacesApiResponse> storer) {
+		return run(name, rects, fetcher, storer, (rect, e) -> {
+		});
+	}
+
+	/**
+	 * 재개 가능한 수집 작업으로 실행한다. 작업이 없거나 끝났으면 rectsSupplier 로 격자를 만들어 새로 등록하고,
+	 * 진행 중이면 남은 격자만 이어서 처리한다. 다른 노드와 같은 jobId 로 동시에 실행하면 격자를 나눠 처리한다.
+	 *
+	 * @param jobId         작업 식별자 (Redis 키에 사용)
+	 * @param rectsSupplier 새 작업을 만들 때만 호출되는 격자 생성
+	 */
+	public Result runJob(String jobId, String name, Supplier<? extends Collection<Rectangle>> rectsSupplier,
+		Function<Rectangle, GooglePlacesApiResponse> fetcher,
+		BiConsumer<Rectangle, GooglePlacesApiResponse> storer) {
+
+		ingestionJobService.start(jobId, () -> rectsSupplier.get().stream().map(Rectangle::toString).toList());
+		log.info("[PlaceIngestionPipeline] {} 작업({}) 시작", name, jobId);
+		double start = System.currentTimeMillis();
+
+		Stages stages = new Stages(name);
+		Semaphore inFlight = new Semaphore(maxInFlight);
+		// 실패한 격자는 pending 으로 돌아오므로, 점유할 격자가 없어도 진행 중인 격자가 끝나면 다시 점유를 시도
+		Progress progress = new Progress();
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+		// 진행 중 자리가 빌 때마다 격자를 하나씩 점유하므로 느린 격자가 있어도 다른 격자의 조회 / 저장이 멈추지 않고,
+		// 동시에 처리할 수 있는 만큼만 점유한다. 조회 / 저장을 시작할 때마다 점유를 연장해
+		// 대기 중이거나 처리 중인 격자를 다른 노드가 다시 점유하지 않도록 함
+		while (true) {
+			inFlight.acquireUninterruptibly();
+			long finishedBeforeClaim = progress.finishedCount();
+			List<String> claimed = ingestionJobService.claim(jobId, 1);
+
+			if (claimed.isEmpty()) {
+				inFlight.release();
+				if (!progress.awaitFinishedAfter(finishedBeforeClaim)) {
+					break;
+				}
+				continue;
+			}
+
+			String item = claimed.get(0);
+			progress.start();
+			futures.add(stages.submit(Rectangle.fromString(item),
+				rect -> {
+					ingestionJobService.renew(jobId, item);
+					return fetcher.apply(rect);
+				},
+				(rect, response) -> {
+					ingestionJobService.renew(jobId, item);
+					storer.accept(rect, response);
+				},
+				(rect, e) -> {
+					try {
+						if (e == null) {
+							ingestionJobService.complete(jobId, item);
+						} else {
+							ingestionJobService.fail(jobId, item, e.getMessage());
+						}
+					} finally {
+						// 결과를 기록한 뒤에 알려야 점유 루프가 pending 으로 돌아온 격자를 놓치지 않음
+						progress.finish();
+						inFlight.release();
+					}
+				}));
+		}
+
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+		double end = System.currentTimeMillis();
+		Result result = stages.result(futures.size());
+		log.info("[PlaceIngestionPipeline] {} 작업({}) 이번 실행 처리 결과 : {}, {} ms", name, jobId, result, end - start);
+		return result;
+	}
+
+	/**
+	 * @param onFinished 격자 하나의 처리가 끝날 때마다 호출 (성공 시 예외는 null)
+	 */
+	public Result run(String name, Collection<Rectangle> rects,
+		Function<Rectangle, GooglePlacesApiResponse> fetcher,
+		BiConsumer<Rectangle, GooglePlacesApiResponse> storer,
+		BiConsumer<Rectangle, Throwable> onFinished) {
+
+		int total = rects.size();
+		log.info("[PlaceIngestionPipeline] {} 수집 시작, 총 {}개 격자", name, total);
+		double start = System.currentTimeMillis();
+
+		Stages stages = new Stages(name);
+		Semaphore inFlight = new Semaphore(maxInFlight);
+		List<CompletableFuture<Void>> futures = new ArrayList<>(total);
+
+		for (Rectangle rect : rects) {
+			// 조회는 끝났지만 저장되지 못한 결과가 쌓이지 않도록 진행 중 격자 수 제한
+			inFlight.acquireUninterruptibly();
+			futures.add(stages.submit(rect, fetcher, storer, (finished, e) -> {
+				try {
+					onFinished.accept(finished, e);
+				} finally {
+					inFlight.release();
+				}
+			}));
+		}
+
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+		double end = System.currentTimeMillis();
+		Result result = stages.result(total);
+		log.info("[PlaceIngestionPipeline] {} 수집 완료 : {}, {} ms", name, result, end - start);
+		return result;
+	}
+
+	/**
+	 * 한 번의 실행에서 격자별 조회 → 저장 단계를 나눠 실행하고 결과를 집계한다.
+	 * 단계별 동시 실행 수는 실행 단위로 제한한다.
+	 */
+	private class Stages {
+
+		private final String name;
+		private final Semaphore fetchPermits = new Semaphore(fetchConcurrency);
+		private final Semaphore storePermits = new Semaphore(storeConcurrency);
+		private final AtomicInteger succeeded = new AtomicInteger();
+		private final AtomicInteger failed = new AtomicInteger();
+
+		private Stages(String name) {
+			this.name = name;
+		}
+
+		private CompletableFuture<Void> submit(Rectangle rect,
+			Function<Rectangle, GooglePlacesApiResponse> fetcher,
+			BiConsumer<Rectangle, GooglePlacesApiResponse> storer,
+			BiConsumer<Rectangle, Throwable> onFinished) {
+
+			return CompletableFuture
+				.supplyAsync(() -> withPermit(fetchPermits, () -> fetcher.apply(rect)), executor)
+				.thenAcceptAsync(response -> withPermit(storePermits, () -> {
+					storer.accept(rect, response);
+					return null;
+				}), executor)
+				.handle((ignored, e) -> {
+					if (e != null) {
+						failed.incrementAndGet();
+						log.warn("[PlaceIngestionPipeline] {} 격자 처리 실패 rect : {}, message : {}", name, rect, e.getMessage());
+					} else {
+						succeeded.incrementAndGet();
+					}
+					try {
+						onFinished.accept(rect, e);
+					} catch (RuntimeException callbackException) {
+						log.warn("[PlaceIngestionPipeline] {} 격자 처리 결과 기록 실패 rect : {}, message : {}", name, rect,
+							callbackException.getMessage());
+					}
+
+					int completed = succeeded.get() + failed.get();
+					if (completed % PROGRESS_LOG_INTERVAL == 0) {
+						log.info("[PlaceIngestionPipeline] {} {} 개 격자 완료", name, completed);
+					}
+					return null;
+				});
+		}
+
+		private Result result(int total) {
+			return new Result(total, succeeded.get(), failed.get());
+		}
+	}
+
+	/**
+	 * runJob 의 진행 중 격자 수와 끝난 격자 수. 점유할 격자가 없을 때 진행 중인 격자가 끝나기를 기다리는 데 사용한다.
+	 */
+	private static class Progress {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition changed = lock.newCondition();
+		private int active;
+		private long finished;
+
+		private void start() {
+			lock.lock();
+			try {
+				active++;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void finish() {
+			lock.lock();
+			try {
+				active--;
+				finished++;
+				changed.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private long finishedCount() {
+			lock.lock();
+			try {
+				return finished;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * 점유 시도 이후 끝난 격자가 생길 때까지 기다린다.
+		 *
+		 * @param finishedBeforeClaim 점유 시도 전에 읽은 끝난 격자 수
+		 * @return 점유 시도 이후 끝난 격자가 있으면 true, 진행 중인 격자 없이 그대로면 false
+		 */
+		private boolean awaitFinishedAfter(long finishedBeforeClaim) {
+			lock.lock();
+			try {
+				while (active > 0 && finished == finishedBeforeClaim) {
+					changed.awaitUninterruptibly();
+				}
+				return finished != finishedBeforeClaim;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private <T> T withPermit(Semaphore permits, Supplier<T> task) {
+		permits.acquireUninterruptibly();
+		try {
+			return task.get();
+		} finally {
+			permits.release();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.close();
+	}
+}
@@ -3,6 +3,7 @@ package com.groom.marky.service.impl;
 import static com.groom.marky.common.constant.MetadataKeys.*;
 import static com.groom.marky.domain.response.GooglePlacesApiResponse.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -14,12 +15,14 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.document.Document;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Point;
 import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.domain.geo.Metrics;
 import org.springframework.stereotype.Service;
@@ -39,50 +42,76 @@ public class RedisService {
 
 	private final StringRedisTemplate redisTemplate;
 	private final ObjectMapper objectMapper;
+	private final int geoBatchSize;
 	private static final String RESTAURANT_RECT_ALL_KEY = "place:restaurant:rects:all";
 	private static final String RESTAURANT_RECT_PROCESSED_KEY = "place:restaurant:rects:processed";
-	private static final String OVER_LENGTH_PLACE_KEY = "place:overlength";
 
 	@Autowired
-	public RedisService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+	public RedisService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+		@Value("${ingestion.redis.geo-batch-size}") int geoBatchSize) {
 		this.redisTemplate = redisTemplate;
 		this.objectMapper = objectMapper;
+		this.geoBatchSize = geoBatchSize;
 	}
 
 	public void setPlacesLocation(GooglePlaceType type, GooglePlacesApiResponse response) {
-		String key = RedisKeyParser.getPlaceKey(type);
-		List<Place> places = response.places();
-
-		for (Place place : places) {
-			redisTemplate.opsForGeo()
-				.add(key, new Point(place.location().longitude(), place.location().latitude()), place.id());
-		}
+		setPlacesLocation(type, response.places());
 	}
 
 	public void setPlacesLocation(GooglePlaceType type, List<GooglePlacesApiResponse.Place> places) {
-		String key = RedisKeyParser.getPlaceKey(type);
-
+		Map<String, Point> locations = new LinkedHashMap<>();
 		for (Place place : places) {
-			redisTemplate.opsForGeo()
-				.add(key, new Point(place.location().longitude(), place.location().latitude()), place.id());
+			locations.put(place.id(), new Point(place.location().longitude(), place.location().latitude()));
 		}
+		addLocations(type, locations);
 	}
 
 	public void setSeoulPlacesLocation(GooglePlaceType type, List<Document> documents) {
-		String key = RedisKeyParser.getPlaceKey(type);
-
+		Map<String, Point> locations = new LinkedHashMap<>();
 		for (Document document : documents) {
 			Map<String, Object> metadata = document.getMetadata();
 			String lat = (String) metadata.get(LAT);
 			String lon = (String) metadata.get(LON);
 			String placeId = (String) metadata.get(GOOGLEPLACEID);
-			log.info("lat : {}, lon : {}, placeId : {}",lat,lon,placeId);
+			log.debug("lat : {}, lon : {}, placeId : {}", lat, lon, placeId);
 			if (lat != null && lon != null && placeId != null) {
-				redisTemplate.opsForGeo()
-						.add(key, new Point(Double.parseDouble(lon), Double.parseDouble(lat)), placeId);
+				locations.put(placeId, new Point(Double.parseDouble(lon), Double.parseDouble(lat)));
 			}
 		}
+		addLocations(type, locations);
 	}
+
+	// 장소마다 GEOADD 를 보내지 않고, geoBatchSize 개씩 묶은 GEOADD 를 한 번의 파이프라인으로 전송
+	// 같은 파이프라인에서 해당 유형의 툴 결과 캐시 세대를 올려, 적재 전에 캐싱된 검색 결과가 더 이상 쓰이지 않게 함
+	private void addLocations(GooglePlaceType type, Map<String, Point> locations) {
+		if (locations.isEmpty()) {
+			return;
+		}
+
+		byte[] rawKey = RedisKeyParser.getPlaceKey(type).getBytes(StandardCharsets.UTF_8);
+		byte[] generationKey = RedisKeyParser.getToolResultGenerationKey(type).getBytes(StandardCharsets.UTF_8);
+		List<Map<byte[], Point>> chunks = new ArrayList<>();
+		Map<byte[], Point> chunk = new HashMap<>();
+		for (Map.Entry<String, Point> location : locations.entrySet()) {
+			chunk.put(location.getKey().getBytes(StandardCharsets.UTF_8), location.getValue());
+			if (chunk.size() == geoBatchSize) {
+				chunks.add(chunk);
+				chunk = new HashMap<>();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			chunks.add(chunk);
+		}
+
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (Map<byte[], Point> members : chunks) {
+				connection.geoCommands().geoAdd(rawKey, members);
+			}
+			connection.stringCommands().incr(generationKey);
+			return null;
+		});
+	}
+
 	public List<String> getNearbyPlacesId(String key, double lat, double lon, double radiusKm) {
 		GeoResults<RedisGeoCommands.GeoLocation<String>> results =
 			redisTemplate.opsForGeo().radius(
@@ -100,20 +129,7 @@ public class RedisService {
 			.toList();
 	}
 
-	public void markRectangleAsProcessed(Rectangle rect) {
-		redisTemplate.opsForSet().add(RESTAURANT_RECT_PROCESSED_KEY, rect.toString());
-	}
-
-	public void markPlaceAsOverLength(Place place) {
-		redisTemplate.opsForSet().add(OVER_LENGTH_PLACE_KEY, place.id());
-	}
-
-	public void saveAllRects(Set<Rectangle> rects) throws JsonProcessingException {
-		ObjectMapper mapper = new ObjectMapper();
-		String json = mapper.writeValueAsString(rects);
-		redisTemplate.opsForValue().set(RESTAURANT_RECT_ALL_KEY, json);
-	}
-
+	// 이전 방식으로 저장된 음식점 격자 중 처리되지 않은 것 (수집 작업 이관용)
 	public Set<Rectangle> loadAllRects() throws JsonProcessingException {
 		String json = redisTemplate.opsForValue().get(RESTAURANT_RECT_ALL_KEY);
 		if (json == null) return Set.of();
@@ -131,6 +147,10 @@ public class RedisService {
 			.collect(Collectors.toSet());
 	}
 
+	public void deleteLegacyRects() {
+		redisTemplate.delete(List.of(RESTAURANT_RECT_ALL_KEY, RESTAURANT_RECT_PROCESSED_KEY));
+	}
+
 	public void setRefreshToken(RefreshTokenInfo tokenInfo) throws JsonProcessingException {
 
 		String userEmail = tokenInfo.getUserEmail();
@@ -19,12 +19,16 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.function.Function;
 
 import static com.groom.marky.common.constant.MetadataKeys.*;
 
@@ -40,15 +44,21 @@ public class SeoulInfoApiServiceImpl implements SeoulInfoApiService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final VectorStore vectorStore;
+    private final IngestionJobService ingestionJobService;
 
     private static final String SEOUL_API = "http://openapi.seoul.go.kr:8088";
     private static final String JSON = "json";
+    private static final String FESTIVAL = "culturalEventInfo";
+    private static final String GARDEN = "SearchParkInfoService";
+    // CSV 한 행마다 구글 장소 검색을 하므로 작게 나눠 진행 상태를 기록
+    private static final int CSV_CHUNK_SIZE = 50;
 
     @Autowired
     public SeoulInfoApiServiceImpl(GooglePlaceSearchServiceImpl googlePlaceSearchService, RedisService redisService, RestTemplate restTemplate,
                                    ObjectMapper objectMapper,
                                    @Value("${SEOUL_DATASET_API_KEY}") String apiKey,
-                                   VectorStore vectorStore) {
+                                   VectorStore vectorStore,
+                                   IngestionJobService ingestionJobService) {
         this.googlePlaceSearchService = googlePlaceSearchService;
         this.redisService = redisService;
 
@@ -56,6 +66,7 @@ public class SeoulInfoApiServiceImpl implements SeoulInfoApiService {
         this.objectMapper = objectMapper;
         this.apiKey = apiKey;
         this.vectorStore = vectorStore;
+        this.ingestionJobService = ingestionJobService;
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -63,330 +74,355 @@ public class SeoulInfoApiServiceImpl implements SeoulInfoApiService {
         this.httpEntity = new HttpEntity<>(headers);
     }
 
+    /**
+     * 페이지(BATCH_SIZE 행) 단위 수집 작업으로 실행한다. 중단되면 다음 호출 때 남은 페이지만 이어서 수집한다.
+     */
     @Override
     public Map<String, String> apiCall(String serviceType) {
 
-        int start = 1;
-        int totalCount = Integer.MAX_VALUE;
-        HashMap<String, String> result = new HashMap<>();
-
-        try {
-            while (start <= totalCount) {
-
-                URI uri = UriComponentsBuilder.fromUriString(SEOUL_API)
-                        .pathSegment(apiKey, JSON, serviceType, String.valueOf(start), String.valueOf(start + BATCH_SIZE - 1))
-                        .build(true)
-                        .toUri();
-
-                // 요청 -> 응답 ( 단순 문자열 )
-                ResponseEntity<String> response =
-                        restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
+        Function<JsonNode, Document> mapper = switch (serviceType) {
+            case FESTIVAL -> this::festivalDocument;
+            case GARDEN -> this::gardenDocument;
+            default -> null;
+        };
+        if (mapper == null) {
+            log.warn("지원하지 않는 SERVICE_TYPE입니다: {}", serviceType);
+            return Map.of();
+        }
 
-                JsonNode root = objectMapper.readTree(response.getBody());
-                JsonNode data = root.path(serviceType);
-                JsonNode rows = data.path("row");
+        Map<String, String> result = new HashMap<>();
+        String jobId = "seoul-api-" + serviceType;
 
-                if (totalCount == Integer.MAX_VALUE) {
-                    totalCount = data.path("list_total_count").asInt();
+        try {
+            ingestionJobService.start(jobId, () -> {
+                // 전체 건수만 확인하고 페이지 시작 위치를 작업 단위로 등록
+                int totalCount = fetchRows(serviceType, 1, 1).path("list_total_count").asInt();
+                List<String> pageStarts = new ArrayList<>();
+                for (int start = 1; start <= totalCount; start += BATCH_SIZE) {
+                    pageStarts.add(String.valueOf(start));
                 }
-
-                switch (serviceType) {
-                    case "culturalEventInfo":
-                        festivalInfo(rows, result);
-                        break;
-
-                    case "SearchParkInfoService":
-                        gardenInfo(rows, result);
-                        break;
-
-                    default:
-                        log.warn("지원하지 않는 SERVICE_TYPE입니다: {}", serviceType);
-                        break;
+                return pageStarts;
+            });
+
+            ingestionJobService.process(jobId, 1, item -> {
+                int start = Integer.parseInt(item);
+                JsonNode rows = fetchRows(serviceType, start, start + BATCH_SIZE - 1).path("row");
+
+                List<Document> documents = new ArrayList<>();
+                for (JsonNode row : rows) {
+                    Document document = mapper.apply(row);
+                    if (document != null) {
+                        documents.add(document);
+                    }
                 }
-                start += BATCH_SIZE;
-            }
-        } catch (JsonProcessingException e) {
-            log.info(e.getMessage());
-        }catch (Exception e) {
+                store(documents, result);
+            });
+        } catch (Exception e) {
             log.warn("서울 정보 API 호출 실패: {}", e.getMessage());
         }
         return result;
     }
 
+    /**
+     * 같은 파일은 같은 작업으로 취급하므로, 중단 후 같은 파일을 다시 올리면 남은 행만 이어서 처리한다.
+     */
     @Override
     public Map<String, String> csvImport(MultipartFile multipartFile, CsvType type) {
-        try (Reader reader = new InputStreamReader(multipartFile.getInputStream(), StandardCharsets.UTF_8)) {
-            Iterable<CSVRecord> records = CSVFormat.DEFAULT
-                .withFirstRecordAsHeader()
-                .withIgnoreEmptyLines()
-                .withTrim()
-                .parse(reader);
-
-            switch (type) {
-                case GALLERY:
-                    return parseGalleryCsv(records);
-                case TRAIL:
-                    return parseTrailCsv(records);
-                case THEATER:
-                    return parseTheaterCsv(records);
-                default:
-                    log.warn("지원하지 않는 CSV 타입입니다: {}", type);
-                    return Map.of();
+        Function<CSVRecord, Document> mapper = switch (type) {
+            case GALLERY -> this::galleryDocument;
+            case TRAIL -> this::trailDocument;
+            case THEATER -> this::theaterDocument;
+            default -> null;
+        };
+        if (mapper == null) {
+            log.warn("지원하지 않는 CSV 타입입니다: {}", type);
+            return Map.of();
+        }
+
+        try {
+            byte[] bytes = multipartFile.getBytes();
+            List<CSVRecord> records;
+            try (Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+                records = CSVFormat.DEFAULT
+                    .withFirstRecordAsHeader()
+                    .withIgnoreEmptyLines()
+                    .withTrim()
+                    .parse(reader)
+                    .getRecords();
             }
 
+            Map<String, String> result = new HashMap<>();
+            String jobId = "seoul-csv-" + type.name().toLowerCase() + "-" + contentHash(bytes);
+
+            ingestionJobService.start(jobId, () -> {
+                List<String> chunkStarts = new ArrayList<>();
+                for (int start = 0; start < records.size(); start += CSV_CHUNK_SIZE) {
+                    chunkStarts.add(String.valueOf(start));
+                }
+                return chunkStarts;
+            });
+
+            ingestionJobService.process(jobId, 1, item -> {
+                int start = Integer.parseInt(item);
+                List<Document> documents = new ArrayList<>();
+                for (CSVRecord record : records.subList(start, Math.min(records.size(), start + CSV_CHUNK_SIZE))) {
+                    Document document = mapper.apply(record);
+                    if (document != null) {
+                        documents.add(document);
+                    }
+                }
+                store(documents, result);
+            });
+            return result;
+
         } catch (IOException e) {
             log.error("CSV 파일 처리 실패", e);
             return Map.of();
         }
     }
 
-    private Map<String, String> parseGalleryCsv(Iterable<CSVRecord> records) {
-        Map<String, String> result = new HashMap<>();
-        List<Document> documents = new ArrayList<>();
-
-        for (CSVRecord record : records) {
-            String region = record.get("CTPRVN_NM");
-            if (!region.contains("서울")) continue;
+    private JsonNode fetchRows(String serviceType, int start, int end) {
+        URI uri = UriComponentsBuilder.fromUriString(SEOUL_API)
+                .pathSegment(apiKey, JSON, serviceType, String.valueOf(start), String.valueOf(end))
+                .build(true)
+                .toUri();
 
-            String galleryName = record.get("FCLTY_NM");
-            if(galleryName == null || galleryName.isBlank()){
-                continue;
-            }
-            String tel = record.get("TEL_NO");
-            String latitude = record.get("FCLTY_LA");
-            String longitude = record.get("FCLTY_LO");
-            String fee = record.get("VIEWNG_PRICE");
-            String address = record.get("SIGNGU_NM");
-
-            String content = String.format(
-                "%s 미술관 위치는 %s (%s, %s)입니다. 연락처는 %s, 관람료는 %s입니다.",
-                    galleryName, address, latitude, longitude, tel, fee
-            );
-
-            if (latitude == null || latitude.isBlank() || longitude == null || longitude.isBlank()) {
-                log.warn("좌표 정보 누락 - parkName: {}, lat: '{}', lon: '{}'", galleryName, latitude, longitude);
-                continue;
-            }
-            String googlePlaceId = googlePlaceSearchService.searchPlaceId(galleryName);
-            if(googlePlaceId == null || googlePlaceId.isBlank()){
-                continue;
-            }
-            String id = UUID.nameUUIDFromBytes(googlePlaceId.getBytes(StandardCharsets.UTF_8)).toString();
+        // 요청 -> 응답 ( 단순 문자열 )
+        ResponseEntity<String> response =
+                restTemplate.exchange(uri, HttpMethod.GET, httpEntity, String.class);
 
-            Map<String, Object> metadata = Map.of(
-                DISPLAYNAME, galleryName,
-                "tel", tel,
-                LAT, latitude,
-                LON, longitude,
-                "fee", fee,
-                FORMATTEDADDRESS, address,
-                TYPE, "activity",
-                ACTIVITY_TYPE, "미술관",
-                GOOGLEPLACEID, googlePlaceId
-            );
-            documents.add(new Document(id, content, metadata));
-            result.put(galleryName, content);
+        try {
+            return objectMapper.readTree(response.getBody()).path(serviceType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("서울 정보 API 응답 파싱 실패: " + e.getMessage(), e);
         }
+    }
 
-        redisService.setSeoulPlacesLocation(GooglePlaceType.ACTIVITY,documents);
+    private void store(List<Document> documents, Map<String, String> result) {
+        if (documents.isEmpty()) {
+            return;
+        }
         vectorStore.add(documents);
-        return result;
+        // GEOADD 와 함께 툴 결과 캐시 세대를 올리므로 벡터 저장 뒤에 호출해야 이전 벡터로 만든 결과가 새 세대로 캐싱되지 않음
+        redisService.setSeoulPlacesLocation(GooglePlaceType.ACTIVITY, documents);
+        for (Document document : documents) {
+            result.put((String) document.getMetadata().get(DISPLAYNAME), document.getText());
+        }
     }
 
-    private Map<String, String> parseTrailCsv(Iterable<CSVRecord> records) {
-        Map<String, String> result = new HashMap<>();
-        List<Document> documents = new ArrayList<>();
-
-        for (CSVRecord record : records) {
-            String trailRegion = record.get("SIGNGU_NM");
-            if (!trailRegion.contains("서울")) continue;
+    private static String contentHash(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-            String trailName = record.get("WLK_COURS_NM");
-            if(trailName == null || trailName.isBlank()){
-                continue;
-            }
-            String routeSummary = record.get("COURS_DC");
-            String distanceKm = record.get("COURS_DETAIL_LT_CN");
-            String description = record.get("ADIT_DC");
-            String duration = record.get("COURS_TIME_CN");
-            String addr = record.get("LNM_ADDR");
-            String latitude = record.get("COURS_SPOT_LA");
-            String longitude = record.get("COURS_SPOT_LO");
-
-            String content = String.format(
-                "산책코스 '%s' 입니다. 설명: %s 거리: %s 소요 시간: %s 주소: %s : (%s, %s)",
-                trailName, description, distanceKm, duration, addr, latitude, longitude);
-            if (latitude == null || latitude.isBlank() || longitude == null || longitude.isBlank()) {
-                log.warn("좌표 정보 누락 - parkName: {}, lat: '{}', lon: '{}'", trailName, latitude, longitude);
-                continue;
-            }
-            String googlePlaceId = googlePlaceSearchService.searchPlaceId(trailName);
-            if(googlePlaceId == null || googlePlaceId.isBlank()){
-                continue;
-            }
-            String id = UUID.nameUUIDFromBytes(googlePlaceId.getBytes(StandardCharsets.UTF_8)).toString();
+    private Document galleryDocument(CSVRecord record) {
+        String region = record.get("CTPRVN_NM");
+        if (!region.contains("서울")) return null;
 
-            Map<String, Object> metadata = Map.of(
-                GOOGLEPLACEID, googlePlaceId,
-                DISPLAYNAME,trailName,
-                LAT, latitude,
-                LON, latitude,
-                FORMATTEDADDRESS, addr,
-                TYPE, "activity",
-                ACTIVITY_TYPE, "산책길",
-                "summary", String.format("%s - %s", routeSummary, description),
-                "distanceKm", distanceKm,
-                "duration", duration
-            );
-
-            documents.add(new Document(id, content, metadata));
-            result.put(trailName, content);
+        String galleryName = record.get("FCLTY_NM");
+        if(galleryName == null || galleryName.isBlank()){
+            return null;
         }
-        redisService.setSeoulPlacesLocation(GooglePlaceType.ACTIVITY,documents);
-        vectorStore.add(documents);
-        return result;
+        String tel = record.get("TEL_NO");
+        String latitude = record.get("FCLTY_LA");
+        String longitude = record.get("FCLTY_LO");
+        String fee = record.get("VIEWNG_PRICE");
+        String address = record.get("SIGNGU_NM");
+
+        String content = String.format(
+            "%s 미술관 위치는 %s (%s, %s)입니다. 연락처는 %s, 관람료는 %s입니다.",
+                galleryName, address, latitude, longitude, tel, fee
+        );
+
+        if (latitude == null || latitude.isBlank() || longitude == null || longitude.isBlank()) {
+            log.warn("좌표 정보 누락 - parkName: {}, lat: '{}', lon: '{}'", galleryName, latitude, longitude);
+            return null;
+        }
+        String googlePlaceId = googlePlaceSearchService.searchPlaceId(galleryName);
+        if(googlePlaceId == null || googlePlaceId.isBlank()){
+            return null;
+        }
+        String id = UUID.nameUUIDFromBytes(googlePlaceId.getBytes(StandardCharsets.UTF_8)).toString();
+
+        Map<String, Object> metadata = Map.of(
+            DISPLAYNAME, galleryName,
+            "tel", tel,
+            LAT, latitude,
+            LON, longitude,
+            "fee", fee,
+            FORMATTEDADDRESS, address,
+            TYPE, "activity",
+            ACTIVITY_TYPE, "미술관",
+            GOOGLEPLACEID, googlePlaceId
+        );
+        return new Document(id, content, metadata);
     }
 
-    private Map<String, String> parseTheaterCsv(Iterable<CSVRecord> records) {
-        Map<String, String> result = new HashMap<>();
-        List<Document> documents = new ArrayList<>();
-
-        for (CSVRecord record : records) {
-            String theaterRegion = record.get("CTPRVN_NM");
-            if (!theaterRegion.contains("서울")) continue;
+    private Document trailDocument(CSVRecord record) {
+        String trailRegion = record.get("SIGNGU_NM");
+        if (!trailRegion.contains("서울")) return null;
 
-            String poiName = record.get("POI_NM");
-            if(poiName == null || poiName.isBlank()){
-                continue;
-            }
-            String branchName = record.get("BHF_NM");
-            String name = poiName + (branchName != null && !branchName.isBlank() ? " " + branchName : "");
-
-            String district = record.get("SIGNGU_NM");
-            String neighborhood = record.get("LEGALDONG_NM");
-            String ri = record.get("LI_NM");
-            String number = record.get("LNBR_NO");
-            String address = String.format("%s %s %s %s", district, neighborhood, ri, number).replaceAll("\\s+", " ").trim();
-
-            String longitude = record.get("LC_LO");
-            String latitude = record.get("LC_LA");
-
-            String content = String.format(
-                "%s 영화관 위치는 %s 좌표는 (%s, %s)입니다",
-                name, address, latitude, longitude
-            );
-
-            if (latitude == null || latitude.isBlank() || longitude == null || longitude.isBlank()) {
-                log.warn("좌표 정보 누락 - parkName: {}, lat: '{}', lon: '{}'", poiName, latitude, longitude);
-                continue;
-            }
-            String googlePlaceId = googlePlaceSearchService.searchPlaceId(name);
-            if(googlePlaceId == null || googlePlaceId.isBlank()){
-                continue;
-            }
-            String id = UUID.nameUUIDFromBytes(googlePlaceId.getBytes(StandardCharsets.UTF_8)).toString();
+        String trailName = record.get("WLK_COURS_NM");
+        if(trailName == null || trailName.isBlank()){
+            return null;
+        }
+        String routeSummary = record.get("COURS_DC");
+        String distanceKm = record.get("COURS_DETAIL_LT_CN");
+        String description = record.get("ADIT_DC");
+        String duration = record.get("COURS_TIME_CN");
+        String addr = record.get("LNM_ADDR");
+        String latitude = record.get("COURS_SPOT_LA");
+        String longitude = record.get("COURS_SPOT_LO");
+
+        String content = String.format(
+            "산책코스 '%s' 입니다. 설명: %s 거리: %s 소요 시간: %s 주소: %s : (%s, %s)",
+            trailName, description, distanceKm, duration, addr, latitude, longitude);
+        if (latitude == null || latitude.isBlank() || longitude == null || longitude.isBlank()) {
+            log.warn("좌표 정보 누락 - parkName: {}, lat: '{}', lon: '{}'", trailName, latitude, longitude);
+            return null;
+        }
+        String googlePlaceId = googlePlaceSearchService.searchPlaceId(trailName);
+        if(googlePlaceId == null || googlePlaceId.isBlank()){
+            return null;
+        }
+        String id = UUID.nameUUIDFromBytes(googlePlaceId.getBytes(StandardCharsets.UTF_8)).toString();
+
+        Map<String, Object> metadata = Map.of(
+            GOOGLEPLACEID, googlePlaceId,
+            DISPLAYNAME,trailName,
+            LAT, latitude,
+            LON, longitude,
+            FORMATTEDADDRESS, addr,
+            TYPE, "activity",
+            ACTIVITY_TYPE, "산책길",
+            "summary", String.format("%s - %s", routeSummary, description),
+            "distanceKm", distanceKm,
+            "duration", duration
+        );
+        return new Document(id, content, metadata);
+    }
 
-            Map<String, Object> metadata = Map.of(
-                GOOGLEPLACEID, googlePlaceId,
-                TYPE, "activity",
-                ACTIVITY_TYPE, "영화관",
-                DISPLAYNAME, name,
-                FORMATTEDADDRESS, address,
-                LAT, latitude,
-                LON, longitude
-            );
+    private Document theaterDocument(CSVRecord record) {
+        String theaterRegion = record.get("CTPRVN_NM");
+        if (!theaterRegion.contains("서울")) return null;
 
-            documents.add(new Document(id, content, metadata));
-            result.put(name, content);
+        String poiName = record.get("POI_NM");
+        if(poiName == null || poiName.isBlank()){
+            return null;
         }
-
-        redisService.setSeoulPlacesLocation(GooglePlaceType.ACTIVITY,documents);
-        vectorStore.add(documents);
-        return result;
+        String branchName = record.get("BHF_NM");
+        String name = poiName + (branchName != null && !branchName.isBlank() ? " " + branchName : "");
+
+        String district = record.get("SIGNGU_NM");
+        String neighborhood = record.get("LEGALDONG_NM");
+        String ri = record.get("LI_NM");
+        String number = record.get("LNBR_NO");
+        String address = String.format("%s %s %s %s", district, neighborhood, ri, number).replaceAll("\\s+", " ").trim();
+
+        String longitude = record.get("LC_LO");
+        String latitude = record.get("LC_LA");
+
+        String content = String.format(
+            "%s 영화관 위치는 %s 좌표는 (%s, %s)입니다",
+            name, address, latitude, longitude
+        );
+
+        if (latitude == null || latitude.isBlank() || longitude == null || longitude.isBlank()) {
+            log.warn("좌표 정보 누락 - parkName: {}, lat: '{}', lon: '{}'", poiName, latitude, longitude);
+            return null;
+        }
+        String googlePlaceId = googlePlaceSearchService.searchPlaceId(name);
+        if(googlePlaceId == null || googlePlaceId.isBlank()){
+            return null;
+        }
+        String id = UUID.nameUUIDFromBytes(googlePlaceId.getBytes(StandardCharsets.UTF_8)).toString();
+
+        Map<String, Object> metadata = Map.of(
+            GOOGLEPLACEID, googlePlaceId,
+            TYPE, "activity",
+            ACTIVITY_TYPE, "영화관",
+            DISPLAYNAME, name,
+            FORMATTEDADDRESS, address,
+            LAT, latitude,
+            LON, longitude
+        );
+        return new Document(id, content, metadata);
     }
 
-    private void gardenInfo(JsonNode rows, HashMap<String, String> result) {
-        List<Document> documents = new ArrayList<>();
-
-        for (JsonNode row : rows) {
-            String parkName = row.path("P_PARK").asText();
-            String parkInfo = row.path("P_LIST_CONTENT").asText();
-            String guide = row.path("GUIDANCE").asText();
-            String visitRoad = row.path("VISIT_ROAD").asText();
-            String useReference = row.path("USE_REFER").asText();
-            String addr = row.path("P_ADDR").asText();
-            String longitude = row.path("LONGITUDE").asText();
-            String latitude = row.path("LATITUDE").asText();
-
-            String content = String.format(
-                    "%s 공원 안내: %s 이용안내: %s 방문경로: %s 참고사항: %s 위치: %s",
-                    parkName, parkInfo, guide, visitRoad, useReference, addr
-            );
-            if(parkName == null || parkName.isBlank()){
-                continue;
-            }
-            if (latitude == null || latitude.isBlank() || longitude == null || longitude.isBlank()) {
-                log.warn("좌표 정보 누락 - parkName: {}, lat: '{}', lon: '{}'", parkName, latitude, longitude);
-                continue;
-            }
-            String googlePlaceId = googlePlaceSearchService.searchPlaceId(parkName);
-            String id = UUID.nameUUIDFromBytes(googlePlaceId.getBytes(StandardCharsets.UTF_8)).toString();
-
-            Map<String, Object> metadata = Map.of(
-                    GOOGLEPLACEID, googlePlaceId,
-                    TYPE, "activity",
-                    ACTIVITY_TYPE, "공원",
-                    DISPLAYNAME, parkName,
-                    LAT, latitude,
-                    LON, longitude,
-                    "guide", guide,
-                    "visitRoad", visitRoad,
-                    "useReference", useReference,
-                    FORMATTEDADDRESS, addr
-            );
-
-            documents.add(new Document(id, content, metadata));
-            result.put(parkName, content);
+    private Document gardenDocument(JsonNode row) {
+        String parkName = row.path("P_PARK").asText();
+        String parkInfo = row.path("P_LIST_CONTENT").asText();
+        String guide = row.path("GUIDANCE").asText();
+        String visitRoad = row.path("VISIT_ROAD").asText();
+        String useReference = row.path("USE_REFER").asText();
+        String addr = row.path("P_ADDR").asText();
+        String longitude = row.path("LONGITUDE").asText();
+        String latitude = row.path("LATITUDE").asText();
+
+        String content = String.format(
+                "%s 공원 안내: %s 이용안내: %s 방문경로: %s 참고사항: %s 위치: %s",
+                parkName, parkInfo, guide, visitRoad, useReference, addr
+        );
+        if(parkName == null || parkName.isBlank()){
+            return null;
+        }
+        if (latitude == null || latitude.isBlank() || longitude == null || longitude.isBlank()) {
+            log.warn("좌표 정보 누락 - parkName: {}, lat: '{}', lon: '{}'", parkName, latitude, longitude);
+            return null;
         }
+        String googlePlaceId = googlePlaceSearchService.searchPlaceId(parkName);
+        if(googlePlaceId == null || googlePlaceId.isBlank()){
+            return null;
+        }
+        String id = UUID.nameUUIDFromBytes(googlePlaceId.getBytes(StandardCharsets.UTF_8)).toString();
 
-        redisService.setSeoulPlacesLocation(GooglePlaceType.ACTIVITY,documents);
-        vectorStore.add(documents);
+        Map<String, Object> metadata = Map.of(
+                GOOGLEPLACEID, googlePlaceId,
+                TYPE, "activity",
+                ACTIVITY_TYPE, "공원",
+                DISPLAYNAME, parkName,
+                LAT, latitude,
+                LON, longitude,
+                "guide", guide,
+                "visitRoad", visitRoad,
+                "useReference", useReference,
+                FORMATTEDADDRESS, addr
+        );
+        return new Document(id, content, metadata);
     }
 
-    private void festivalInfo(JsonNode rows, HashMap<String, String> result) {
-        List<Document> documents = new ArrayList<>();
-
-        for (JsonNode row : rows) {
-            String location = row.path("GUNAME").asText();
-            String title = row.path("TITLE").asText();
-            String place = row.path("PLACE").asText();
-            String date = row.path("DATE").asText();
-            String fee = row.path("USE_FEE").asText();
-            String latitude = row.path("LAT").asText();
-            String longitude = row.path("LOT").asText();
-
-            String content = String.format(
-                    "%s에서 열리는 '%s' 문화행사. 장소는 %s, 날짜는 %s, 관람료는 %s입니다.",
-                    location, title, place, date, fee
-            );
-
-            Map<String, Object> metadata = Map.of(
-                    TYPE, "activity",
-                    ACTIVITY_TYPE, "행사",
-                    DISPLAYNAME, title,
-                    LAT, latitude,
-                    LON, longitude,
-                    FORMATTEDADDRESS, location,
-                    "place", place,
-                    "date", date,
-                    "fee", fee
-            );
-
-            documents.add(new Document(content, metadata));
-            result.put(title, content);
-        }
-
-        redisService.setSeoulPlacesLocation(GooglePlaceType.ACTIVITY,documents);
-        vectorStore.add(documents);
+    private Document festivalDocument(JsonNode row) {
+        String location = row.path("GUNAME").asText();
+        String title = row.path("TITLE").asText();
+        String place = row.path("PLACE").asText();
+        String date = row.path("DATE").asText();
+        String fee = row.path("USE_FEE").asText();
+        String latitude = row.path("LAT").asText();
+        String longitude = row.path("LOT").asText();
+
+        String content = String.format(
+                "%s에서 열리는 '%s' 문화행사. 장소는 %s, 날짜는 %s, 관람료는 %s입니다.",
+                location, title, place, date, fee
+        );
+
+        Map<String, Object> metadata = Map.of(
+                TYPE, "activity",
+                ACTIVITY_TYPE, "행사",
+                DISPLAYNAME, title,
+                LAT, latitude,
+                LON, longitude,
+                FORMATTEDADDRESS, location,
+                "place", place,
+                "date", date,
+                "fee", fee
+        );
+
+        // 같은 페이지를 다시 수집해도 중복 저장되지 않도록 행사 정보로 id 고정
+        String id = UUID.nameUUIDFromBytes((title + "|" + place + "|" + date).getBytes(StandardCharsets.UTF_8)).toString();
+        return new Document(id, content, metadata);
     }
 }
@@ -2,6 +2,7 @@ package com.groom.marky.service.impl;
 
 import static com.groom.marky.common.constant.KakaoMapCategoryGroupCode.*;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -10,6 +11,7 @@ import com.groom.marky.domain.response.GooglePlacesApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.groom.marky.common.constant.KakaoMapCategoryGroupCode;
 import com.groom.marky.domain.request.Rectangle;
 import com.groom.marky.service.KakaoPlaceSearchService;
 
@@ -20,14 +22,17 @@ import lombok.extern.slf4j.Slf4j;
 public class SeoulPlaceSearchService {
 
 	private final KakaoPlaceSearchService kakaoPlaceSearchService;
+	private final SpatialGridService spatialGridService;
 	private static final Rectangle seoulBox = Rectangle.rectOfSeoul();
 
 	// 서울을 10 X 10 으로 나눔
 	private static final List<Rectangle> seoulBoxes = seoulBox.generateGrid(10, 10);
 
 	@Autowired
-	public SeoulPlaceSearchService(KakaoPlaceSearchService kakaoPlaceSearchService) {
+	public SeoulPlaceSearchService(KakaoPlaceSearchService kakaoPlaceSearchService,
+		SpatialGridService spatialGridService) {
 		this.kakaoPlaceSearchService = kakaoPlaceSearchService;
+		this.spatialGridService = spatialGridService;
 	}
 
 	public Map<String, String> collectParkingLot() {
@@ -42,22 +47,27 @@ public class SeoulPlaceSearchService {
 		return kakaoPlaceSearchService.searchAll(seoulBoxes, FD6);
 	}
 
+	// 격자 분할 결과는 SpatialGridService 에 저장된 것을 재사용
 	public Set<Rectangle> getCafeRects() {
-		return kakaoPlaceSearchService.getRects(seoulBoxes, CE7);
+		return new LinkedHashSet<>(spatialGridService.getLeaves(seoulBoxes, CE7).keySet());
 	}
 
 	public Map<Rectangle, Integer> getCafeRectsMap() {
-		return kakaoPlaceSearchService.getRectsMap(seoulBoxes, CE7);
+		return spatialGridService.getLeaves(seoulBoxes, CE7);
 	}
 
 	public Set<Rectangle> getRestaurantRects() {
 
-		return kakaoPlaceSearchService.getRects(seoulBoxes, FD6);
+		return new LinkedHashSet<>(spatialGridService.getLeaves(seoulBoxes, FD6).keySet());
 	}
 
 	public Set<Rectangle> getParkingLotRects() {
 
-		return kakaoPlaceSearchService.getRects(seoulBoxes, PK6);
+		return new LinkedHashSet<>(spatialGridService.getLeaves(seoulBoxes, PK6).keySet());
+	}
+
+	public Map<Rectangle, Integer> refreshRects(KakaoMapCategoryGroupCode code, boolean full) {
+		return spatialGridService.refresh(seoulBoxes, code, full);
 	}
 
 	public GooglePlacesApiResponse getActivityRects(String keyword) {
@@ -0,0 +1,185 @@
+package com.groom.marky.service.impl;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.groom.marky.common.QuadtreeSubdivider;
+import com.groom.marky.common.RedisKeyParser;
+import com.groom.marky.common.constant.KakaoMapCategoryGroupCode;
+import com.groom.marky.domain.request.Rectangle;
+import com.groom.marky.service.KakaoPlaceSearchService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리별 격자 분할 결과(모든 노드의 장소 수 + 최종 격자)를 Redis 에 버전별로 저장하고 재사용한다.
+ * 저장된 결과가 max-age 이내면 카카오 호출 없이 그대로 반환하고, 지났으면 장소 수가 바뀐 노드만 다시 분할한다.
+ *
+ * grid:{code}:meta        version(현재 버전), nextVersion(마지막으로 발급한 버전), updatedAt, seed
+ * grid:{code}:v{n}:nodes  격자 → 장소 수 (중간 노드 포함)
+ * grid:{code}:v{n}:leaves 최종 격자 목록 (분할 순서 유지)
+ */
+@Slf4j
+@Service
+public class SpatialGridService {
+
+	private static final String META = "meta";
+	private static final String VERSION = "version";
+	private static final String UPDATED_AT = "updatedAt";
+	private static final String SEED = "seed";
+
+	// 버전 발급. nextVersion 이 없던 이전 데이터는 현재 버전 다음부터 발급
+	// KEYS : meta
+	private static final RedisScript<Long> ALLOCATE_SCRIPT = RedisScript.of("""
+		local next = redis.call('HINCRBY', KEYS[1], 'nextVersion', 1)
+		local current = tonumber(redis.call('HGET', KEYS[1], 'version') or '0')
+		if next <= current then
+			next = current + 1
+			redis.call('HSET', KEYS[1], 'nextVersion', next)
+		end
+		return next
+		""", Long.class);
+
+	// 현재 버전보다 새 버전일 때만 교체. 교체된 이전 버전(없으면 0), 더 새 버전이 이미 있으면 -1 반환
+	// KEYS : meta / ARGV : version, updatedAt, seed
+	private static final RedisScript<Long> SWITCH_SCRIPT = RedisScript.of("""
+		local current = tonumber(redis.call('HGET', KEYS[1], 'version') or '0')
+		if tonumber(ARGV[1]) <= current then
+			return -1
+		end
+		redis.call('HSET', KEYS[1], 'version', ARGV[1], 'updatedAt', ARGV[2], 'seed', ARGV[3])
+		return current
+		""", Long.class);
+
+	private final KakaoPlaceSearchService kakaoPlaceSearchService;
+	private final StringRedisTemplate redisTemplate;
+	private final long maxAgeMillis;
+
+	@Autowired
+	public SpatialGridService(KakaoPlaceSearchService kakaoPlaceSearchService, StringRedisTemplate redisTemplate,
+		@Value("${ingestion.grid.max-age}") long maxAgeMillis) {
+		this.kakaoPlaceSearchService = kakaoPlaceSearchService;
+		this.redisTemplate = redisTemplate;
+		this.maxAgeMillis = maxAgeMillis;
+	}
+
+	private record StoredGrid(long version, long updatedAt, String seed, Map<Rectangle, Integer> nodes,
+		List<String> leaves) {
+	}
+
+	/**
+	 * @return 최종 격자 → 장소 수 (분할 순서 유지)
+	 */
+	public Map<Rectangle, Integer> getLeaves(List<Rectangle> roots, KakaoMapCategoryGroupCode code) {
+		StoredGrid stored = load(code);
+		if (stored != null && stored.seed().equals(seed(roots))
+			&& System.currentTimeMillis() - stored.updatedAt() < maxAgeMillis) {
+			log.info("[SpatialGridService] {} 저장된 격자 사용 v{}, {}개", code, stored.version(), stored.leaves().size());
+			return toLeaves(stored);
+		}
+		return refresh(roots, code, false);
+	}
+
+	/**
+	 * @param full true 면 이전 결과를 무시하고 처음부터 분할
+	 */
+	public Map<Rectangle, Integer> refresh(List<Rectangle> roots, KakaoMapCategoryGroupCode code, boolean full) {
+		StoredGrid stored = load(code);
+		// 시작 격자 구성이 바뀌었으면 이전 결과는 재사용할 수 없음
+		boolean reusable = !full && stored != null && stored.seed().equals(seed(roots));
+		Map<Rectangle, Integer> previous = reusable ? stored.nodes() : Map.of();
+
+		QuadtreeSubdivider.Tree tree = kakaoPlaceSearchService.refreshRects(roots, code, previous);
+		long version = save(code, seed(roots), tree);
+
+		Map<Rectangle, Integer> leaves = new LinkedHashMap<>();
+		for (QuadtreeSubdivider.Leaf leaf : tree.leaves()) {
+			leaves.put(leaf.rect(), leaf.count());
+		}
+		log.info("[SpatialGridService] {} 격자 저장 v{} ({}), {}개", code, version, reusable ? "부분 갱신" : "전체 분할",
+			leaves.size());
+		return leaves;
+	}
+
+	private StoredGrid load(KakaoMapCategoryGroupCode code) {
+		HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+		Map<String, String> meta = hash.entries(RedisKeyParser.getGridKey(code, META));
+		if (!meta.containsKey(VERSION)) {
+			return null;
+		}
+
+		long version = Long.parseLong(meta.get(VERSION));
+		Map<String, String> rawNodes = hash.entries(versionKey(code, version, "nodes"));
+		List<String> leaves = redisTemplate.opsForList().range(versionKey(code, version, "leaves"), 0, -1);
+		if (rawNodes.isEmpty() || leaves == null) {
+			return null;
+		}
+
+		Map<Rectangle, Integer> nodes = new HashMap<>(rawNodes.size() * 2);
+		rawNodes.forEach((rect, count) -> nodes.put(Rectangle.fromString(rect), Integer.parseInt(count)));
+		return new StoredGrid(version, Long.parseLong(meta.getOrDefault(UPDATED_AT, "0")), meta.getOrDefault(SEED, ""),
+			nodes, leaves);
+	}
+
+	/**
+	 * 버전을 원자적으로 발급받아 그 버전 키에만 쓰고, 모두 쓴 뒤 meta 의 version 을 바꾼다.
+	 * 같은 카테고리를 동시에 갱신해도 서로의 키를 덮어쓰지 않으므로, 읽는 쪽은 항상 완성된 버전만 본다.
+	 */
+	private long save(KakaoMapCategoryGroupCode code, String seed, QuadtreeSubdivider.Tree tree) {
+		String metaKey = RedisKeyParser.getGridKey(code, META);
+		Long allocated = redisTemplate.execute(ALLOCATE_SCRIPT, List.of(metaKey));
+		long version = allocated == null ? 1 : allocated;
+
+		Map<String, String> nodes = new HashMap<>(tree.nodes().size() * 2);
+		tree.nodes().forEach((rect, count) -> nodes.put(rect.toString(), String.valueOf(count)));
+		List<String> leaves = tree.leaves().stream().map(leaf -> leaf.rect().toString()).toList();
+
+		redisTemplate.opsForHash().putAll(versionKey(code, version, "nodes"), nodes);
+		if (!leaves.isEmpty()) {
+			redisTemplate.opsForList().rightPushAll(versionKey(code, version, "leaves"), leaves);
+		}
+
+		Long replaced = redisTemplate.execute(SWITCH_SCRIPT, List.of(metaKey),
+			String.valueOf(version), String.valueOf(System.currentTimeMillis()), seed);
+
+		if (replaced == null || replaced < 0) {
+			// 동시에 실행된 더 최신 갱신이 먼저 반영됨, 이번 결과는 버림
+			log.info("[SpatialGridService] {} v{} 보다 새 버전이 있어 저장하지 않음", code, version);
+			deleteVersion(code, version);
+		} else if (replaced > 0) {
+			deleteVersion(code, replaced);
+		}
+		return version;
+	}
+
+	private void deleteVersion(KakaoMapCategoryGroupCode code, long version) {
+		redisTemplate.delete(List.of(versionKey(code, version, "nodes"), versionKey(code, version, "leaves")));
+	}
+
+	private static Map<Rectangle, Integer> toLeaves(StoredGrid stored) {
+		Map<Rectangle, Integer> leaves = new LinkedHashMap<>();
+		for (String leaf : stored.leaves()) {
+			Rectangle rect = Rectangle.fromString(leaf);
+			leaves.put(rect, stored.nodes().get(rect));
+		}
+		return leaves;
+	}
+
+	// 시작 격자 구성 식별값
+	private static String seed(List<Rectangle> roots) {
+		return roots.size() + ":" + Integer.toHexString(roots.hashCode());
+	}
+
+	private static String versionKey(KakaoMapCategoryGroupCode code, long version, String part) {
+		return RedisKeyParser.getGridKey(code, "v" + version + ":" + part);
+	}
+}
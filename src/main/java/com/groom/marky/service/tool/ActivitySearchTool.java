@@ -13,6 +13,7 @@ import org.springframework.stereotype.Component;
 import com.groom.marky.common.RedisKeyParser;
 import com.groom.marky.common.constant.GooglePlaceType;
 import com.groom.marky.repository.ActivityMetadataRepository;
+import com.groom.marky.service.ToolResultCache;
 import com.groom.marky.service.impl.RedisService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -25,14 +26,17 @@ public class ActivitySearchTool {
 	private final VectorStore vectorStore;
 	private final ActivityMetadataRepository activityMetadataRepository;
 	private final SimilaritySearchTool similaritySearchTool;
+	private final ToolResultCache toolResultCache;
 
 	@Autowired
 	public ActivitySearchTool(RedisService redisService, VectorStore vectorStore,
-		ActivityMetadataRepository activityMetadataRepository, SimilaritySearchTool similaritySearchTool) {
+		ActivityMetadataRepository activityMetadataRepository, SimilaritySearchTool similaritySearchTool,
+		ToolResultCache toolResultCache) {
 		this.redisService = redisService;
 		this.vectorStore = vectorStore;
 		this.activityMetadataRepository = activityMetadataRepository;
 		this.similaritySearchTool = similaritySearchTool;
+		this.toolResultCache = toolResultCache;
 	}
 
 	@Tool(
@@ -51,6 +55,15 @@ public class ActivitySearchTool {
 	) {
 
 		log.info("[searchActivity Tool 호출] 위도 : {}, 경도 : {}, 디테일 : {}", lat, lon, activity_detail);
+		return toolResultCache.get(GooglePlaceType.ACTIVITY, lat, lon, mood, activity_detail,
+			() -> search(lat, lon, activity_detail, mood));
+	}
+
+	private List<Document> search(Double lat, Double lon, String activity_detail, String mood) {
+		if (similaritySearchTool.isGeoNative()) {
+			return similaritySearchTool.similaritySearchNearby(mood, GooglePlaceType.ACTIVITY, activity_detail, lat, lon, 2);
+		}
+
 		List<String> intentPlace = new ArrayList<>();
 		String key = RedisKeyParser.getPlaceKey(GooglePlaceType.ACTIVITY);
 		log.info("key : {}", key);
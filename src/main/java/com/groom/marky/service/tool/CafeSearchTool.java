@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 import com.groom.marky.common.RedisKeyParser;
 import com.groom.marky.common.constant.GooglePlaceType;
 import com.groom.marky.repository.CafeRepository;
+import com.groom.marky.service.ToolResultCache;
 import com.groom.marky.service.impl.RedisService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ public class CafeSearchTool {
 	private double searchRadiusKm = 1;
 //	private double minRating = 4.0;
 	private final SimilaritySearchTool similaritySearchTool;
+	private final ToolResultCache toolResultCache;
 
 	@Tool(
 		name = "searchCafe",
@@ -48,6 +50,14 @@ public class CafeSearchTool {
 			return List.of();
 		}
 
+		return toolResultCache.get(GooglePlaceType.CAFE, lat, lon, mood, null, () -> search(lat, lon, mood));
+	}
+
+	private List<Document> search(double lat, double lon, String mood) {
+		if (similaritySearchTool.isGeoNative()) {
+			return similaritySearchTool.similaritySearchNearby(mood, GooglePlaceType.CAFE, null, lat, lon, searchRadiusKm);
+		}
+
 		String key = RedisKeyParser.getPlaceKey(GooglePlaceType.CAFE);
 		log.info("key : {}", key);
 		List<String> nearbyPlacesId =
@@ -0,0 +1,134 @@
+package com.groom.marky.service.tool;
+
+import static com.groom.marky.common.constant.ContextKeys.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.groom.marky.service.LocalIntentClassifier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 어드바이저 context 에 툴 인자가 모두 채워져 있으면, LLM 이 툴을 고르게 하지 않고 intent 에 맞는 툴을 바로 실행한다.
+ * 툴 선택 / 인자 생성을 위한 모델 호출 한 번이 줄어들고, 모델은 결과 요약만 하면 된다.
+ * 인자가 부족하거나 툴 실행이 실패하면 null 을 반환하고, 호출한 쪽은 기존처럼 모델의 툴 호출에 맡긴다.
+ */
+@Slf4j
+@Component
+public class DirectToolDispatcher {
+
+	private static final String ORIGIN_LAT = "originLat";
+	private static final String ORIGIN_LON = "originLon";
+	private static final String DEST_LAT = "destLat";
+	private static final String DEST_LON = "destLon";
+
+	private final CafeSearchTool cafeSearchTool;
+	private final RestaurantSearchTool restaurantSearchTool;
+	private final ParkingLotSearchTool parkingLotSearchTool;
+	private final ActivitySearchTool activitySearchTool;
+	private final SubwayRouteSearchTool subwayRouteSearchTool;
+
+	// 툴 결과는 모델의 툴 호출과 같은 형식(JSON)으로 전달
+	private final CustomToolCallResultConverter resultConverter = new CustomToolCallResultConverter();
+
+	private final Counter directCounter;
+	private final Counter incompleteCounter;
+	private final Counter errorCounter;
+
+	@Autowired
+	public DirectToolDispatcher(CafeSearchTool cafeSearchTool, RestaurantSearchTool restaurantSearchTool,
+		ParkingLotSearchTool parkingLotSearchTool, ActivitySearchTool activitySearchTool,
+		SubwayRouteSearchTool subwayRouteSearchTool, MeterRegistry meterRegistry) {
+		this.cafeSearchTool = cafeSearchTool;
+		this.restaurantSearchTool = restaurantSearchTool;
+		this.parkingLotSearchTool = parkingLotSearchTool;
+		this.activitySearchTool = activitySearchTool;
+		this.subwayRouteSearchTool = subwayRouteSearchTool;
+
+		this.directCounter = counter(meterRegistry, "direct");
+		this.incompleteCounter = counter(meterRegistry, "incomplete");
+		this.errorCounter = counter(meterRegistry, "error");
+	}
+
+	/**
+	 * @return 실행한 툴 이름과 결과, 바로 실행할 수 없으면 null
+	 */
+	public Result dispatch(Map<String, Object> context) {
+		String intent = (String) context.get(INTENT);
+		if (intent == null) {
+			incompleteCounter.increment();
+			return null;
+		}
+
+		Double lat = toDouble(context.get(LAT));
+		Double lon = toDouble(context.get(LON));
+		String mood = (String) context.get(MOOD);
+		String activityDetail = (String) context.get(ACTIVITY_DETAIL);
+		boolean hasPlaceArgs = lat != null && lon != null && mood != null;
+
+		try {
+			Result result = switch (intent) {
+				case LocalIntentClassifier.CAFE -> hasPlaceArgs
+					? documents("searchCafe", cafeSearchTool.searchCafe(lat, lon, mood)) : null;
+				case LocalIntentClassifier.RESTAURANT -> hasPlaceArgs
+					? documents("searchRestaurant", restaurantSearchTool.searchRestaurant(lat, lon, mood)) : null;
+				case LocalIntentClassifier.PARKING -> hasPlaceArgs
+					? documents("searchParkingLots", parkingLotSearchTool.searchParkingLots(lat, lon, mood)) : null;
+				case LocalIntentClassifier.ACTIVITY -> hasPlaceArgs && activityDetail != null && !activityDetail.isBlank()
+					? documents("searchActivity", activitySearchTool.searchActivity(lat, lon, activityDetail, mood))
+					: null;
+				case LocalIntentClassifier.ROUTE -> route(context);
+				default -> null;
+			};
+
+			if (result == null) {
+				incompleteCounter.increment();
+				return null;
+			}
+			directCounter.increment();
+			log.info("[DirectToolDispatcher] {} 직접 실행, intent : {}", result.toolName(), intent);
+			return result;
+		} catch (Exception e) {
+			errorCounter.increment();
+			log.warn("[DirectToolDispatcher] 툴 직접 실행 실패, 모델의 툴 호출로 진행 intent : {}, message : {}",
+				intent, e.getMessage());
+			return null;
+		}
+	}
+
+	private Result route(Map<String, Object> context) {
+		Double originLat = toDouble(context.get(ORIGIN_LAT));
+		Double originLon = toDouble(context.get(ORIGIN_LON));
+		Double destLat = toDouble(context.get(DEST_LAT));
+		Double destLon = toDouble(context.get(DEST_LON));
+		if (originLat == null || originLon == null || destLat == null || destLon == null) {
+			return null;
+		}
+		return new Result("getRouteDetails", subwayRouteSearchTool.getRouteDetails(originLat, originLon, destLat, destLon));
+	}
+
+	private Result documents(String toolName, List<Document> documents) {
+		return new Result(toolName, resultConverter.convert(documents, null));
+	}
+
+	private static Double toDouble(Object value) {
+		return value instanceof Number number ? number.doubleValue() : null;
+	}
+
+	private Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("marky.tool.dispatch")
+			.description("툴 직접 실행 여부")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	public record Result(String toolName, String output) {
+	}
+}
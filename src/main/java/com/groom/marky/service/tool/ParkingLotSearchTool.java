@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 
 import com.groom.marky.common.RedisKeyParser;
 import com.groom.marky.common.constant.GooglePlaceType;
+import com.groom.marky.service.ToolResultCache;
 import com.groom.marky.service.impl.RedisService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -21,11 +22,14 @@ public class ParkingLotSearchTool {
 
 	private final RedisService redisService;
 	private final SimilaritySearchTool similaritySearchTool;
+	private final ToolResultCache toolResultCache;
 
 	@Autowired
-	public ParkingLotSearchTool(RedisService redisService, SimilaritySearchTool similaritySearchTool) {
+	public ParkingLotSearchTool(RedisService redisService, SimilaritySearchTool similaritySearchTool,
+		ToolResultCache toolResultCache) {
 		this.redisService = redisService;
 		this.similaritySearchTool = similaritySearchTool;
+		this.toolResultCache = toolResultCache;
 	}
 
 	@Tool(
@@ -45,6 +49,14 @@ public class ParkingLotSearchTool {
 		log.info("[searchParkingLots Tool 호출] 위도 : {}, 경도 : {}", lat, lon);
 		log.info("사용자 요구 사항 : {}", mood);
 
+		return toolResultCache.get(GooglePlaceType.PARKING, lat, lon, mood, null, () -> search(lat, lon, mood));
+	}
+
+	private List<Document> search(Double lat, Double lon, String mood) {
+		if (similaritySearchTool.isGeoNative()) {
+			return similaritySearchTool.similaritySearchNearby(mood, GooglePlaceType.PARKING, null, lat, lon, 1);
+		}
+
 		String key = RedisKeyParser.getPlaceKey(GooglePlaceType.PARKING);
 		// place:parking
 
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import com.groom.marky.common.RedisKeyParser;
 import com.groom.marky.common.constant.GooglePlaceType;
 import com.groom.marky.repository.RestaurantRepository;
+import com.groom.marky.service.ToolResultCache;
 import com.groom.marky.service.impl.RedisService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.document.Document;
@@ -29,6 +30,7 @@ public class RestaurantSearchTool {
 	private double searchRadiusKm = 2;
 //	private double minRating = 3.5;
 	private final SimilaritySearchTool similaritySearchTool;
+	private final ToolResultCache toolResultCache;
 
 	@Tool(
 			name = "searchRestaurant",
@@ -50,6 +52,14 @@ public class RestaurantSearchTool {
 			return List.of();
 		}
 
+		return toolResultCache.get(GooglePlaceType.RESTAURANT, lat, lon, mood, null, () -> search(lat, lon, mood));
+	}
+
+	private List<Document> search(double lat, double lon, String mood) {
+		if (similaritySearchTool.isGeoNative()) {
+			return similaritySearchTool.similaritySearchNearby(mood, GooglePlaceType.RESTAURANT, null, lat, lon, searchRadiusKm);
+		}
+
 		String key = RedisKeyParser.getPlaceKey(GooglePlaceType.RESTAURANT);
 		log.info("key : {}",key);
 		List<String> nearbyPlacesId = redisService.getNearbyPlacesId(key, lat, lon, searchRadiusKm);
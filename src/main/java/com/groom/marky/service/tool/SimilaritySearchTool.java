@@ -1,30 +1,34 @@
 package com.groom.marky.service.tool;
 
-import static com.groom.marky.common.constant.MetadataKeys.*;
-
 import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
-import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
-import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.groom.marky.common.constant.GooglePlaceType;
+import com.groom.marky.repository.PlaceVectorRepository;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
 public class SimilaritySearchTool {
 
-	private final VectorStore vectorStore;
+	private static final int TOP_K = 5;
+	private static final double SIMILARITY_THRESHOLD = 0.2;
+
+	private final EmbeddingModel embeddingModel;
+	private final PlaceVectorRepository placeVectorRepository;
 
 	@Autowired
-	public SimilaritySearchTool(VectorStore vectorStore) {
-		this.vectorStore = vectorStore;
+	public SimilaritySearchTool(EmbeddingModel embeddingModel, PlaceVectorRepository placeVectorRepository) {
+		this.embeddingModel = embeddingModel;
+		this.placeVectorRepository = placeVectorRepository;
 	}
 
 //	@Tool(
@@ -47,38 +51,16 @@ public class SimilaritySearchTool {
 		}
 		log.info("Similarity Search Tool에서 받는 리스트 : {}", ids);
 
-		FilterExpressionBuilder b = new FilterExpressionBuilder();
-		FilterExpressionBuilder.Op op = null;
-
-
-		double startSearchingIds = System.currentTimeMillis();
-		log.info("Start searching IDs in Database");
-
-		// 메타데이터에서 구글 플레이스 ID 검색
-		for (String id : ids) {
-			if (op == null) {
-				op = b.eq(GOOGLEPLACEID, id);
-				// 여기서 메타데이터에 저장된 위경도 데이터 파악..
-				// {"lat": 37.5369564, "lon": 127.0491856,
-			} else {
-				op = b.or(op, b.eq(GOOGLEPLACEID, id));
-			}
-		}
-
-		double endSearchingIds = System.currentTimeMillis();
-		log.info("Finish searching IDs in Database");
-		log.info("Searching IDs time: {} ms", endSearchingIds - startSearchingIds);
+		double startEmbedding = System.currentTimeMillis();
+		float[] queryEmbedding = embeddingModel.embed(mood);
+		double endEmbedding = System.currentTimeMillis();
+		log.info("Query embedding time: {} ms", endEmbedding - startEmbedding);
 
 		double startCalculateSimilarity = System.currentTimeMillis();
 		log.info("Start similarity calculation");
-		// 리필터?
-		List<Document> result =  vectorStore.similaritySearch(
-			SearchRequest.builder()
-				.query(mood)
-				.topK(5)
-				.similarityThreshold(0.2)
-				.filterExpression(op.build())
-				.build());
+		// 후보 ID 는 OR 필터 대신 배열 파라미터 하나로 전달
+		List<Document> result = placeVectorRepository.similaritySearchByPlaceIds(
+			queryEmbedding, ids, TOP_K, SIMILARITY_THRESHOLD);
 
 		double endCalculateSimilarity = System.currentTimeMillis();
 		log.info("Finish similarity calculation");
@@ -89,6 +71,33 @@ public class SimilaritySearchTool {
 		return result;
 	}
 
+	// search.geo-native.enabled 이고 location 컬럼 준비가 끝난 경우에만 true
+	public boolean isGeoNative() {
+		return placeVectorRepository.isGeoNativeReady();
+	}
+
+	/**
+	 * Redis 반경 검색 없이 vector_store 의 location 컬럼으로 반경 필터와 유사도 정렬을 한 번에 수행
+	 */
+	public List<Document> similaritySearchNearby(String mood, GooglePlaceType type, String activityType,
+		double lat, double lon, double radiusKm) {
+		log.info("[similaritySearchNearby] mood : {}, type : {}, 반경 : {} km", mood, type.getGoogleType(), radiusKm);
+
+		if (mood == null) {
+			log.warn("[PlaceVectorSearchTool:similaritySearchNearby] 정보가 부족합니다.");
+			return List.of();
+		}
+
+		double start = System.currentTimeMillis();
+		List<Document> result = placeVectorRepository.similaritySearchWithinRadius(
+			embeddingModel.embed(mood), type.getGoogleType(), activityType,
+			lat, lon, radiusKm, TOP_K, SIMILARITY_THRESHOLD);
+		double end = System.currentTimeMillis();
+		log.info("Geo-native similarity search time: {} ms", end - start);
+
+		return result;
+	}
+
 	List<String> resultConverter(List<Document> result) {
 //		**최종 응답 출력 규칙**
 //		- 아래 JSON 형태로만 출력해야 함 (절대 설명하지 마)
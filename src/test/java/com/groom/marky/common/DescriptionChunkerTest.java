@@ -0,0 +1,78 @@
+package com.groom.marky.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DescriptionChunkerTest {
+
+	private static final String INTRO = "마키식당은(는) 서울특별시 중구 세종대로 110에 위치한 장소로, 평점은 4.5점이며, 총 120개의 리뷰가 있습니다.";
+
+	private static String description(int reviewCount, int reviewLength) {
+		StringBuilder sb = new StringBuilder(INTRO).append("\n\n");
+		sb.append("[식당 종류]\n- 한식당\n\n");
+		sb.append("[이용 정보]\n- 점심 제공 여부: 가능\n- 저녁 제공 여부: 가능\n\n");
+		sb.append("[리뷰]\n");
+		for (int i = 0; i < reviewCount; i++) {
+			sb.append("- ").append(i).append("번 리뷰 ").append("맛".repeat(reviewLength)).append("\n");
+		}
+		return sb.toString().trim();
+	}
+
+	@DisplayName("한도 이내의 설명은 나누지 않는다")
+	@Test
+	void shortDescriptionTest() {
+		// given
+		String description = description(3, 20);
+
+		// when
+		List<String> chunks = DescriptionChunker.chunk(description, 2000);
+
+		// then
+		assertThat(chunks).containsExactly(description);
+	}
+
+	@DisplayName("긴 설명은 리뷰 경계에서 한도 이내로 나누고, 청크마다 장소 소개와 섹션 제목을 붙인다")
+	@Test
+	void splitReviewsTest() {
+		// given
+		String description = description(40, 100);
+
+		// when
+		List<String> chunks = DescriptionChunker.chunk(description, 600);
+
+		// then
+		assertThat(chunks).hasSizeGreaterThan(1);
+		assertThat(chunks).allSatisfy(chunk -> {
+			assertThat(DescriptionChunker.estimateTokens(chunk)).isLessThanOrEqualTo(600);
+			assertThat(chunk).startsWith(INTRO);
+		});
+		assertThat(chunks.subList(1, chunks.size())).allSatisfy(chunk -> assertThat(chunk).contains("[리뷰]\n- "));
+
+		// 모든 리뷰가 빠짐없이 한 번씩 들어감
+		for (int i = 0; i < 40; i++) {
+			String review = "- " + i + "번 리뷰 ";
+			assertThat(chunks.stream().filter(chunk -> chunk.contains(review)).count()).isEqualTo(1);
+		}
+	}
+
+	@DisplayName("한 줄이 한도를 넘으면 글자 단위로 자른다")
+	@Test
+	void splitLongLineTest() {
+		// given
+		String description = description(1, 3000);
+
+		// when
+		List<String> chunks = DescriptionChunker.chunk(description, 500);
+
+		// then
+		assertThat(chunks).hasSizeGreaterThan(6);
+		assertThat(chunks).allSatisfy(
+			chunk -> assertThat(DescriptionChunker.estimateTokens(chunk)).isLessThanOrEqualTo(500));
+		assertThat(chunks.stream().mapToLong(chunk -> chunk.chars().filter(c -> c == '맛').count()).sum())
+			.isEqualTo(3000);
+	}
+}
@@ -0,0 +1,36 @@
+package com.groom.marky.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+	@DisplayName("위경도를 지정한 자릿수의 geohash 로 변환한다")
+	@Test
+	void encodeTest() {
+		assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+		assertThat(GeoHash.encode(57.64911, 10.40744, 5)).isEqualTo("u4pru");
+	}
+
+	@DisplayName("가까운 좌표는 같은 격자로, 격자 경계를 넘으면 다른 격자로 묶인다")
+	@Test
+	void bucketTest() {
+		// given : 강남역 부근 약 20m 차이
+		String gangnam = GeoHash.encode(37.49794, 127.02762, 7);
+		String nearby = GeoHash.encode(37.49800, 127.02770, 7);
+		String hongdae = GeoHash.encode(37.55720, 126.92450, 7);
+
+		// then
+		assertThat(gangnam).hasSize(7).isEqualTo(nearby);
+		assertThat(hongdae).isNotEqualTo(gangnam);
+	}
+
+	@DisplayName("자릿수가 범위를 벗어나면 예외가 발생한다")
+	@Test
+	void invalidPrecisionTest() {
+		assertThatThrownBy(() -> GeoHash.encode(37.5, 127.0, 0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> GeoHash.encode(37.5, 127.0, 13)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,124 @@
+package com.groom.marky.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.groom.marky.domain.request.Rectangle;
+
+class QuadtreeSubdividerTest {
+
+	private static final int MAX_COUNT = 60;
+
+	private List<double[]> points;
+	private ToIntFunction<Rectangle> counter;
+
+	@BeforeEach
+	void setUp() {
+		// 한쪽 구석에 몰린 분포 + 전체에 흩어진 분포
+		Random random = new Random(42);
+		points = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			points.add(new double[] {random.nextDouble() * 0.1, random.nextDouble() * 0.1});
+		}
+		for (int i = 0; i < 1000; i++) {
+			points.add(new double[] {random.nextDouble(), random.nextDouble()});
+		}
+
+		counter = rect -> (int) points.stream()
+			.filter(p -> p[0] >= rect.getWest() && p[0] < rect.getEast()
+				&& p[1] >= rect.getSouth() && p[1] < rect.getNorth())
+			.count();
+	}
+
+	@DisplayName("순차 BFS 와 같은 격자 집합을 반환한다")
+	@Test
+	void sameLeavesAsSequentialTest() {
+		// given
+		List<Rectangle> roots = new Rectangle(0, 0, 1, 1).generateGrid(2, 2);
+
+		// when
+		List<QuadtreeSubdivider.Leaf> leaves = QuadtreeSubdivider.subdivide(roots, counter, MAX_COUNT, 8);
+
+		// then
+		Set<Rectangle> expected = new HashSet<>();
+		ArrayDeque<Rectangle> queue = new ArrayDeque<>(roots);
+		while (!queue.isEmpty()) {
+			Rectangle rect = queue.poll();
+			int total = counter.applyAsInt(rect);
+			if (total > MAX_COUNT) {
+				queue.addAll(rect.splitGrid());
+			} else if (total > 0) {
+				expected.add(rect);
+			}
+		}
+
+		assertThat(leaves).extracting(QuadtreeSubdivider.Leaf::rect).containsExactlyInAnyOrderElementsOf(expected);
+		assertThat(leaves).allSatisfy(leaf -> assertThat(leaf.count()).isBetween(1, MAX_COUNT));
+		assertThat(leaves.stream().mapToInt(QuadtreeSubdivider.Leaf::count).sum()).isEqualTo(points.size());
+	}
+
+	@DisplayName("실행할 때마다 같은 순서로 반환한다")
+	@Test
+	void deterministicOrderTest() {
+		// given
+		List<Rectangle> roots = List.of(new Rectangle(0, 0, 1, 1));
+
+		// when
+		List<QuadtreeSubdivider.Leaf> first = QuadtreeSubdivider.subdivide(roots, counter, MAX_COUNT, 8);
+		List<QuadtreeSubdivider.Leaf> second = QuadtreeSubdivider.subdivide(roots, counter, MAX_COUNT, 3);
+
+		// then
+		assertThat(second).containsExactlyElementsOf(first);
+	}
+
+	@DisplayName("장소 수가 그대로인 하위 트리는 다시 조회하지 않는다")
+	@Test
+	void refreshTest() {
+		// given
+		List<Rectangle> roots = new Rectangle(0, 0, 1, 1).generateGrid(2, 2);
+		QuadtreeSubdivider.Tree first = QuadtreeSubdivider.refresh(roots, counter, MAX_COUNT, 8, Map.of());
+
+		// when
+		QuadtreeSubdivider.Tree unchanged = QuadtreeSubdivider.refresh(roots, counter, MAX_COUNT, 8, first.nodes());
+		for (int i = 0; i < 200; i++) {
+			points.add(new double[] {0.9 + i * 0.0005, 0.9 + i * 0.0004});
+		}
+		QuadtreeSubdivider.Tree changed = QuadtreeSubdivider.refresh(roots, counter, MAX_COUNT, 8, unchanged.nodes());
+
+		// then
+		assertThat(unchanged.calls()).isEqualTo(roots.size());
+		assertThat(unchanged.leaves()).containsExactlyElementsOf(first.leaves());
+
+		assertThat(changed.calls()).isLessThan(first.calls());
+		assertThat(changed.leaves()).containsExactlyElementsOf(QuadtreeSubdivider.subdivide(roots, counter, MAX_COUNT, 8));
+	}
+
+	@DisplayName("격자 조회가 실패하면 처음 발생한 예외를 던진다")
+	@Test
+	void failureTest() {
+		// given
+		ToIntFunction<Rectangle> failing = rect -> {
+			if (rect.getEast() - rect.getWest() < 0.3) {
+				throw new IllegalStateException("카카오 호출 실패");
+			}
+			return counter.applyAsInt(rect);
+		};
+
+		// when & then
+		assertThatThrownBy(() -> QuadtreeSubdivider.subdivide(List.of(new Rectangle(0, 0, 1, 1)), failing, MAX_COUNT, 4))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("카카오 호출 실패");
+	}
+}
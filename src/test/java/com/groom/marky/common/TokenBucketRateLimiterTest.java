@@ -0,0 +1,48 @@
+package com.groom.marky.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+	@DisplayName("버킷 용량을 넘는 요청은 초당 허용 수에 맞춰 대기한다")
+	@Test
+	void rateTest() {
+		// given : 초당 20회, 용량 2 → 12회 획득은 생성 시점부터 최소 (12 - 2) / 20 = 0.5초
+		long start = System.nanoTime();
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 20, 2);
+		int acquires = 12;
+
+		// when
+		for (int i = 0; i < acquires; i++) {
+			limiter.acquire();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		// then
+		assertThat(elapsed).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos((acquires - 2) * 1000L / 20));
+	}
+
+	@DisplayName("인터럽트되어도 예약한 시점까지 대기하고 인터럽트 상태는 유지된다")
+	@Test
+	void interruptTest() {
+		// given : 용량을 다 쓴 뒤 다음 토큰까지 약 0.1초
+		TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 10, 1);
+		limiter.acquire();
+
+		// when
+		Thread.currentThread().interrupt();
+		long start = System.nanoTime();
+		limiter.acquire();
+		long elapsed = System.nanoTime() - start;
+		boolean interrupted = Thread.interrupted();
+
+		// then
+		assertThat(interrupted).isTrue();
+		assertThat(elapsed).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+	}
+}
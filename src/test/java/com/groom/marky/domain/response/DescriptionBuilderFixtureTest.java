@@ -0,0 +1,74 @@
+package com.groom.marky.domain.response;
+
+import static com.groom.marky.domain.response.GooglePlacesApiResponse.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 장소 설명은 content_hash 계산에 쓰이므로, 문구가 바뀌면 모든 장소가 다시 임베딩된다.
+ * place-descriptions.json 은 DescriptionTemplate 도입 전 구현으로 google-places-search-text.json 을 렌더링한 결과이며,
+ * 설명 문구를 의도적으로 바꾼 경우에만 함께 갱신한다.
+ */
+class DescriptionBuilderFixtureTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private static List<Place> places;
+	private static Map<String, List<String>> expected;
+
+	@BeforeAll
+	static void setUp() throws IOException {
+		places = OBJECT_MAPPER.readValue(fixture("google-places-search-text.json"), GooglePlacesApiResponse.class)
+			.places();
+		expected = OBJECT_MAPPER.readValue(fixture("place-descriptions.json"), new TypeReference<>() {
+		});
+	}
+
+	static Stream<Arguments> builders() {
+		return Stream.of(
+			Arguments.of(new RestaurantDescriptionBuilder()),
+			Arguments.of(new CafeDescriptionBuilder()),
+			Arguments.of(new ParkingLotDescriptionBuilder()),
+			Arguments.of(new ActivityDescriptionBuilder()));
+	}
+
+	@DisplayName("샘플 장소의 설명이 이전 구현의 결과와 한 글자도 다르지 않다")
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("builders")
+	void sameAsPreviousDescriptionTest(DescriptionBuilder builder) {
+		// given
+		List<String> previous = expected.get(builder.getType());
+
+		// when
+		List<String> descriptions = places.stream().map(builder::buildDescription).toList();
+
+		// then
+		assertThat(previous).hasSize(places.size());
+		assertThat(descriptions).containsExactlyElementsOf(previous);
+	}
+
+	private static byte[] fixture(String name) throws IOException {
+		try (InputStream in = DescriptionBuilderFixtureTest.class.getResourceAsStream("/fixtures/" + name)) {
+			if (in == null) {
+				throw new IOException("fixture 없음 : " + name);
+			}
+			return in.readAllBytes();
+		}
+	}
+}
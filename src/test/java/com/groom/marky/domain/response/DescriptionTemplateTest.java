@@ -0,0 +1,55 @@
+package com.groom.marky.domain.response;
+
+import static com.groom.marky.domain.response.GooglePlacesApiResponse.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DescriptionTemplateTest {
+
+	private static Place place(List<Place.Review> reviews, Boolean takeout) {
+		return new Place("place-id", List.of(), "서울특별시 중구", new Place.Location(37.5, 127.0), 4.3, 12,
+			new Place.DisplayName("마키식당", "ko"), null, reviews,
+			null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+			null, null, null, null, takeout, null, null);
+	}
+
+	private static Place.Review review(String text) {
+		return new Place.Review(new Place.Review.ReviewText(text, "ko"));
+	}
+
+	@DisplayName("고정 문구, 값, 조건 분기, 리뷰를 순서대로 붙이고 앞뒤 공백을 제거한다")
+	@Test
+	void renderTest() {
+		// given
+		DescriptionTemplate template = DescriptionTemplate.builder()
+			.literal("  ").text(place -> place.displayName().text()).literal("은(는) ")
+			.text(Place::formattedAddress).literal(", 평점 ").number(Place::rating)
+			.literal(", 리뷰 ").integer(Place::userRatingCount).literal("개\n")
+			.flag("- 테이크아웃 가능: ", Place::takeout)
+			.flagIfKnown("- 배달 가능: ", Place::delivery)
+			.when(DescriptionTemplate::hasReviews,
+				then -> then.literal("[리뷰]\n").reviews(2),
+				otherwise -> otherwise.literal("[리뷰 없음]\n"))
+			.build();
+
+		Place withReviews = place(Arrays.asList(
+			review("첫 줄\n둘째 줄"), null, new Place.Review(null), review("NUL\u0000 제거"), review("세 번째")), true);
+
+		// when & then
+		assertThat(template.render(withReviews)).isEqualTo("""
+			마키식당은(는) 서울특별시 중구, 평점 4.3, 리뷰 12개
+			- 테이크아웃 가능: 가능
+			[리뷰]
+			- 첫 줄 둘째 줄
+			- NUL 제거""");
+		assertThat(template.render(place(null, null))).isEqualTo("""
+			마키식당은(는) 서울특별시 중구, 평점 4.3, 리뷰 12개
+			- 테이크아웃 가능: 정보 없음
+			[리뷰 없음]""");
+	}
+}
@@ -0,0 +1,123 @@
+package com.groom.marky.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LocalIntentClassifierTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private LocalIntentClassifier classifier;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		classifier = new LocalIntentClassifier(meterRegistry);
+	}
+
+	@DisplayName("지역명 + 키워드 입력은 로컬에서 분류된다")
+	@Test
+	void completeTest() {
+		// when
+		LocalIntentClassifier.Result cafe = classifier.classify("홍대 카페 추천해줘");
+		LocalIntentClassifier.Result bowling = classifier.classify("강남에서 볼링");
+		LocalIntentClassifier.Result withParticle = classifier.classify("연남동 카페를 추천해줘");
+
+		// then
+		assertThat(cafe.isComplete()).isTrue();
+		assertThat(cafe.intent()).isEqualTo("카페");
+		assertThat(cafe.location()).isEqualTo("홍대");
+
+		assertThat(bowling.isComplete()).isTrue();
+		assertThat(bowling.intent()).isEqualTo("액티비티");
+		assertThat(bowling.activityDetail()).isEqualTo("볼링장");
+		assertThat(bowling.location()).isEqualTo("강남");
+
+		assertThat(withParticle.isComplete()).isTrue();
+		assertThat(withParticle.location()).isEqualTo("연남동");
+	}
+
+	@DisplayName("더 긴 키워드가 우선 매칭된다")
+	@Test
+	void longestMatchTest() {
+		// when
+		LocalIntentClassifier.Result boardGame = classifier.classify("연남동 보드게임카페");
+		LocalIntentClassifier.Result spaghetti = classifier.classify("성수 스파게티 맛집");
+
+		// then
+		assertThat(boardGame.intent()).isEqualTo("액티비티");
+		assertThat(boardGame.activityDetail()).isEqualTo("보드게임카페");
+
+		assertThat(spaghetti.intent()).isEqualTo("식당");
+		assertThat(spaghetti.activityDetail()).isNull();
+	}
+
+	@DisplayName("키워드 뒤에 조사가 아닌 글자가 이어지면 매칭하지 않는다")
+	@Test
+	void wordBoundaryTest() {
+		// when
+		LocalIntentClassifier.Result spaghetti = classifier.classify("성수 스파게티");
+		LocalIntentClassifier.Result willDo = classifier.classify("주말에 뭐 할거야");
+		LocalIntentClassifier.Result sauna = classifier.classify("강남 스파에서 쉬고 싶어");
+
+		// then
+		assertThat(spaghetti.hasIntent()).isFalse();
+		assertThat(willDo.hasIntent()).isFalse();
+		assertThat(sauna.intent()).isEqualTo("액티비티");
+		assertThat(sauna.activityDetail()).isEqualTo("찜질방");
+	}
+
+	@DisplayName("프롬프트 동의어 표에 없는 모호한 표현은 로컬에서 분류하지 않는다")
+	@Test
+	void ambiguousKeywordTest() {
+		// when
+		LocalIntentClassifier.Result golf = classifier.classify("가평 골프장");
+		LocalIntentClassifier.Result baseball = classifier.classify("잠실 야구장");
+		LocalIntentClassifier.Result arrival = classifier.classify("홍대 도착");
+		LocalIntentClassifier.Result market = classifier.classify("성수 마켓");
+
+		// then
+		assertThat(golf.hasIntent()).isFalse();
+		assertThat(baseball.hasIntent()).isFalse();
+		assertThat(arrival.hasIntent()).isFalse();
+		assertThat(market.hasIntent()).isFalse();
+	}
+
+	@DisplayName("여러 의도가 섞이거나 장소가 모호하면 LLM 으로 넘긴다")
+	@Test
+	void fallbackTest() {
+		// when
+		LocalIntentClassifier.Result mixed = classifier.classify("홍대 카페 갔다가 볼링장 가고 싶어");
+		LocalIntentClassifier.Result vague = classifier.classify("거기 근처 카페");
+		LocalIntentClassifier.Result mood = classifier.classify("홍대 조용한 카페");
+		LocalIntentClassifier.Result none = classifier.classify("오늘 뭐하지");
+
+		// then
+		assertThat(mixed.hasIntent()).isFalse();
+		assertThat(vague.isComplete()).isFalse();
+		assertThat(mood.isComplete()).isFalse();
+		assertThat(none.hasIntent()).isFalse();
+	}
+
+	@DisplayName("분류 결과는 record 로 기록한 것만 메트릭으로 집계된다")
+	@Test
+	void metricTest() {
+		// given
+		LocalIntentClassifier.Result hit = classifier.classify("홍대 카페");
+		LocalIntentClassifier.Result miss = classifier.classify("오늘 뭐하지");
+		// 같은 턴의 어드바이저 재분류
+		classifier.classify("홍대 카페");
+
+		// when
+		classifier.record(hit);
+		classifier.record(miss);
+
+		// then
+		assertThat(meterRegistry.get("marky.intent.local").tag("result", "hit").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("marky.intent.local").tag("result", "miss").counter().count()).isEqualTo(1);
+	}
+}
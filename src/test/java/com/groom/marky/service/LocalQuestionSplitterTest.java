@@ -0,0 +1,55 @@
+package com.groom.marky.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LocalQuestionSplitterTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private LocalQuestionSplitter splitter;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		splitter = new LocalQuestionSplitter(new LocalIntentClassifier(meterRegistry), meterRegistry);
+	}
+
+	@DisplayName("연결 표현이 없거나 형용사 나열, 보조 용언뿐인 질문은 단일 질문으로 본다")
+	@Test
+	void singleTest() {
+		assertThat(splitter.isCompound("홍대 카페 추천해줘")).isFalse();
+		assertThat(splitter.isCompound("조용하고 넓은 카페 추천해줘")).isFalse();
+		assertThat(splitter.isCompound("공부하고 싶은 카페 알려줘")).isFalse();
+		assertThat(splitter.isCompound("바다가 보이는 카페")).isFalse();
+		assertThat(splitter.isCompound("오후에 강남역 가는 길")).isFalse();
+	}
+
+	@DisplayName("일정을 잇는 표현이 있거나 의도 키워드가 둘 이상이면 복합 질문으로 본다")
+	@Test
+	void compoundTest() {
+		assertThat(splitter.isCompound("강남역에서 파스타 먹고 영화 보고 싶어")).isTrue();
+		assertThat(splitter.isCompound("홍대에서 분위기 좋은 카페 갔다가, 저녁엔 신촌에서 조용한 식당 가고 싶어")).isTrue();
+		assertThat(splitter.isCompound("홍대 카페랑 맛집")).isTrue();
+		assertThat(splitter.isCompound("홍대 카페랑 강남 카페")).isTrue();
+		assertThat(splitter.isCompound("밥 먹고 나서 갈 카페")).isTrue();
+		assertThat(splitter.isCompound("점심 먹은 다음에 볼링")).isTrue();
+	}
+
+	@DisplayName("판단 결과별로 카운터가 증가한다")
+	@Test
+	void counterTest() {
+		// when
+		splitter.isCompound("홍대 카페 추천해줘");
+		splitter.isCompound("홍대 카페랑 맛집");
+		splitter.isCompound("강남 볼링장");
+
+		// then
+		assertThat(meterRegistry.get("marky.split.local").tag("result", "single").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("marky.split.local").tag("result", "compound").counter().count()).isEqualTo(1);
+	}
+}